@@ -0,0 +1,166 @@
+package fengge.utils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 编译期注解索引 - 读取j-index模块的处理器生成的 META-INF/fengge/annotation.index
+ * 每个ClassLoader读取一次；每个类只解析查询过的注解对应的属性、方法
+ * 类不在索引中(没有使用处理器编译、JDK的类等)或索引与类不一致(属性、方法找不到)时返回null，由调用方使用反射
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+@Slf4j
+final class AnnotationIndex {
+    // 与 fengge.index.AnnotationIndexProcessor.INDEX 一致
+    static final String RESOURCE = "META-INF/fengge/annotation.index";
+    private static final Map<String, Class<?>> PRIMITIVES = new HashMap<>();
+    // ClassLoader -> 类名 -> 带注解的成员，只含字符串，不引用ClassLoader
+    private static final Map<ClassLoader, Map<String, IndexedClass>> INDEXES =
+            Collections.synchronizedMap(new WeakHashMap<>());
+    private static final ClassValue<Members> MEMBERS = new ClassValue<Members>() {
+        @Override
+        protected Members computeValue(Class<?> type) {
+            ClassLoader loader = type.getClassLoader();
+            IndexedClass indexed = null == loader ? null
+                    : INDEXES.computeIfAbsent(loader, AnnotationIndex::load).get(type.getName());
+            return null == indexed ? null : new Members(type, indexed);
+        }
+    };
+
+    static {
+        for (Class<?> c : new Class<?>[]{boolean.class, byte.class, char.class, short.class, int.class, long.class,
+                float.class, double.class}) {
+            PRIMITIVES.put(c.getName(), c);
+        }
+    }
+
+    private AnnotationIndex() {
+    }
+
+    /**
+     * 本类(不含父类)带注解的属性；类不在索引中返回null
+     */
+    static List<Field> getFields(Class<?> type, Class<? extends Annotation> annotationClass) {
+        Members m = MEMBERS.get(type);
+        return null == m ? null : m.getFields(annotationClass.getName());
+    }
+
+    /**
+     * 本类带注解的方法；类不在索引中返回null
+     */
+    static List<Method> getMethods(Class<?> type, Class<? extends Annotation> annotationClass) {
+        Members m = MEMBERS.get(type);
+        return null == m ? null : m.getMethods(annotationClass.getName());
+    }
+
+    private static Class<?>[] parameterTypes(String names, ClassLoader loader) throws ClassNotFoundException {
+        if (names.isEmpty()) {
+            return new Class<?>[0];
+        }
+        String[] parts = names.split(",");
+        Class<?>[] ret = new Class<?>[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            Class<?> c = PRIMITIVES.get(parts[i]);
+            ret[i] = null != c ? c : Class.forName(parts[i], false, loader);
+        }
+        return ret;
+    }
+
+    // 同一个文件可能通过父子ClassLoader返回多次，按URL去重
+    private static Map<String, IndexedClass> load(ClassLoader loader) {
+        Map<String, IndexedClass> ret = new HashMap<>();
+        try {
+            Set<String> loaded = new HashSet<>();
+            for (URL url : Collections.list(loader.getResources(RESOURCE))) {
+                if (loaded.add(url.toString())) {
+                    read(url, ret);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("failed to read {}", RESOURCE, e);
+        }
+        return ret;
+    }
+
+    private static void read(URL url, Map<String, IndexedClass> index) throws IOException {
+        try (BufferedReader r = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+            for (String line = r.readLine(); null != line; line = r.readLine()) {
+                String[] cols = line.split("\t", -1);
+                if (cols.length < 2) continue;
+                IndexedClass c = index.computeIfAbsent(cols[1], k -> new IndexedClass());
+                if ("F".equals(cols[0]) && cols.length == 4) {
+                    for (String a : cols[3].split(",")) {
+                        c.fields.computeIfAbsent(a, k -> new ArrayList<>()).add(cols[2]);
+                    }
+                } else if ("M".equals(cols[0]) && cols.length == 5) {
+                    for (String a : cols[4].split(",")) {
+                        c.methods.computeIfAbsent(a, k -> new ArrayList<>()).add(new String[]{cols[2], cols[3]});
+                    }
+                }
+            }
+        }
+    }
+
+    // 注解名 -> 属性名、(方法名, 参数类型)
+    private static final class IndexedClass {
+        private final Map<String, List<String>> fields = new HashMap<>();
+        private final Map<String, List<String[]>> methods = new HashMap<>();
+    }
+
+    // 按注解解析，只解析查询过的注解对应的成员；索引与类不一致时该注解返回null
+    private static final class Members {
+        private final Class<?> type;
+        private final IndexedClass indexed;
+        private final ConcurrentHashMap<String, Optional<List<Field>>> fields = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<String, Optional<List<Method>>> methods = new ConcurrentHashMap<>();
+
+        Members(Class<?> type, IndexedClass indexed) {
+            this.type = type;
+            this.indexed = indexed;
+        }
+
+        List<Field> getFields(String annotation) {
+            return fields.computeIfAbsent(annotation, a -> {
+                List<Field> ret = new ArrayList<>();
+                try {
+                    for (String name : indexed.fields.getOrDefault(a, List.of())) {
+                        ret.add(type.getDeclaredField(name));
+                    }
+                } catch (ReflectiveOperationException | LinkageError e) {
+                    return stale(e);
+                }
+                return Optional.of(List.copyOf(ret));
+            }).orElse(null);
+        }
+
+        List<Method> getMethods(String annotation) {
+            return methods.computeIfAbsent(annotation, a -> {
+                List<Method> ret = new ArrayList<>();
+                try {
+                    for (String[] m : indexed.methods.getOrDefault(a, List.of())) {
+                        ret.add(type.getDeclaredMethod(m[0], parameterTypes(m[1], type.getClassLoader())));
+                    }
+                } catch (ReflectiveOperationException | LinkageError e) {
+                    return stale(e);
+                }
+                return Optional.of(List.copyOf(ret));
+            }).orElse(null);
+        }
+
+        private <T> Optional<T> stale(Throwable e) {
+            log.warn("stale annotation index of {}, use reflection: {}", type.getName(), e.toString());
+            return Optional.empty();
+        }
+    }
+}
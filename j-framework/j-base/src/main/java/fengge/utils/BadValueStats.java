@@ -0,0 +1,84 @@
+package fengge.utils;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 脏数据统计 - 转换失败时只计数，按间隔汇总打印一条warn日志(期间次数、累计次数、最近一个值)，不打印异常堆栈
+ * 第一次失败立即打印，之后每个间隔最多打印一次；间隔内没有新的失败时不打印，次数可以通过getCount获取
+ * eg: PrimitiveValueUtil.badValues(int.class).getCount()
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+@Slf4j
+public final class BadValueStats {
+    private static final long DEFAULT_INTERVAL_MILLIS = 60_000;
+    // 日志中值的最大长度，单元格可能很长
+    private static final int MAX_VALUE_LENGTH = 100;
+
+    @Getter
+    private final String name;
+    private final LongAdder count = new LongAdder();
+    private final LongAdder pending = new LongAdder();
+    private final AtomicLong nextReportAt = new AtomicLong();
+    private volatile long intervalMillis = DEFAULT_INTERVAL_MILLIS;
+    private volatile Object lastValue;
+
+    public BadValueStats(String name) {
+        this.name = name;
+    }
+
+    /**
+     * 记录一个转换失败的值
+     */
+    public void record(Object value) {
+        count.increment();
+        pending.increment();
+        lastValue = value;
+        long now = CachedClock.currentTimeMillis();
+        long next = nextReportAt.get();
+        if (now >= next && nextReportAt.compareAndSet(next, now + intervalMillis)) {
+            log.warn("{}: {} bad values since last report, {} in total, last value: {}",
+                    name, pending.sumThenReset(), count.sum(), abbreviate(lastValue));
+        }
+    }
+
+    /**
+     * 累计失败次数
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * 最近一个失败的值
+     */
+    public Object getLastValue() {
+        return lastValue;
+    }
+
+    /**
+     * 汇总日志的间隔，默认60s
+     */
+    public void setIntervalMillis(long intervalMillis) {
+        if (intervalMillis < 0) {
+            throw new IllegalArgumentException("intervalMillis must not be negative: " + intervalMillis);
+        }
+        this.intervalMillis = intervalMillis;
+    }
+
+    public void reset() {
+        count.reset();
+        pending.reset();
+        lastValue = null;
+        nextReportAt.set(0);
+    }
+
+    private static String abbreviate(Object value) {
+        String s = String.valueOf(value);
+        return s.length() <= MAX_VALUE_LENGTH ? s : s.substring(0, MAX_VALUE_LENGTH) + "...(" + s.length() + ")";
+    }
+}
@@ -0,0 +1,320 @@
+package fengge.utils;
+
+import lombok.SneakyThrows;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 对象属性复制 - bean -> bean、Map -> bean，按属性名匹配(含父类，同名取子类的)，不经过json
+ * 每对(源类型, 目标类型)第一次复制时生成复制计划：读写都是MethodHandle，所有属性合成一个MethodHandle调用
+ * 类型相同或可以直接赋值(含基础类型拓宽，如int -> long)时直接复制，基础类型不装箱；
+ * 其它情况按 PrimitiveValueUtil 的规则转换(如String -> int，null -> 0)，转换失败直接抛出异常
+ * 无法转换的属性(如List -> Map)、静态属性、目标的final属性跳过；嵌套对象只复制引用，不深拷贝
+ * 只有简单类型(基础类型、包装类型、数字、字符串)转换为String，bean、集合等复制到String属性时跳过，不调用toString
+ * 泛型属性(如List<OrderItem>)只在两边泛型一致时复制；Map -> bean时泛型属性跳过(元素类型无法检查)
+ * 计划按源类型缓存在ClassValue中(目标类型 -> 计划)，源类型卸载后计划一起回收；
+ * 计划引用了目标类型的属性，源类型存活期间目标类型不会卸载(目标类型的生命周期短于源类型时注意)
+ * eg:
+ * OrderDto dto = BeanCopier.copy(order, OrderDto.class);
+ * Order order = BeanCopier.fromMap(map, Order.class);
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+public final class BeanCopier {
+    private static final MethodType COPY_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodHandle NOOP = MethodHandles.empty(COPY_TYPE);
+    private static final MethodHandle CONVERT;
+    private static final MethodHandle IS_ASSIGNABLE;
+    private static final Map<Class<?>, MethodHandle> PRIMITIVE_CONVERTERS = new HashMap<>();
+    // 可以按PrimitiveValueUtil规则转换的类型
+    private static final Set<Class<?>> SIMPLE_TYPES = new HashSet<>(Arrays.asList(String.class, Integer.class,
+            Long.class, Double.class, Float.class, Short.class, Byte.class, Boolean.class, Character.class,
+            BigDecimal.class, BigInteger.class));
+
+    static {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            CONVERT = lookup.findVirtual(ValueConverter.class, "convert",
+                    MethodType.methodType(Object.class, Object.class));
+            IS_ASSIGNABLE = lookup.findStatic(BeanCopier.class, "isAssignable",
+                    MethodType.methodType(boolean.class, Class.class, Object.class));
+            Object[][] converters = {{int.class, "intValue"}, {long.class, "longValue"}, {double.class, "doubleValue"},
+                    {float.class, "floatValue"}, {short.class, "shortValue"}, {byte.class, "byteValue"},
+                    {boolean.class, "boolValue"}, {char.class, "getAsCharacter"}};
+            for (Object[] c : converters) {
+                Class<?> type = (Class<?>) c[0];
+                PRIMITIVE_CONVERTERS.put(type, lookup.findStatic(PrimitiveValueUtil.class, (String) c[1],
+                        MethodType.methodType(type, Object.class)));
+            }
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    // 源类型 -> 目标类型 -> 计划；计划只挂在源类型上，不会被长期存在的目标类型引用住
+    private static final ClassValue<CopyPlans> PLANS = new ClassValue<CopyPlans>() {
+        @Override
+        protected CopyPlans computeValue(Class<?> source) {
+            return new CopyPlans(source);
+        }
+    };
+
+    private static final ClassValue<MapPlan> MAP_PLANS = new ClassValue<MapPlan>() {
+        @Override
+        protected MapPlan computeValue(Class<?> target) {
+            return new MapPlan(target);
+        }
+    };
+
+    private BeanCopier() {
+    }
+
+    /**
+     * 创建目标对象(需要无参构造方法)并复制属性；source为null时返回null
+     */
+    public static <T> T copy(Object source, Class<T> targetType) {
+        if (null == source) {
+            return null;
+        }
+        T target = newInstance(targetType);
+        copy(source, target);
+        return target;
+    }
+
+    /**
+     * 复制同名属性到已有对象
+     */
+    public static void copy(Object source, Object target) {
+        PLANS.get(source.getClass()).get(target.getClass()).copy(source, target);
+    }
+
+    /**
+     * 创建目标对象(需要无参构造方法)并按key设置属性，没有对应属性的key忽略；map为null时返回null
+     */
+    public static <T> T fromMap(Map<String, ?> map, Class<T> targetType) {
+        if (null == map) {
+            return null;
+        }
+        T target = newInstance(targetType);
+        fromMap(map, target);
+        return target;
+    }
+
+    /**
+     * 按key设置已有对象的属性
+     */
+    public static void fromMap(Map<String, ?> map, Object target) {
+        MapPlan plan = MAP_PLANS.get(target.getClass());
+        for (Map.Entry<String, ?> e : map.entrySet()) {
+            plan.set(target, e.getKey(), e.getValue());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T newInstance(Class<T> type) {
+        return (T) MAP_PLANS.get(type).newInstance();
+    }
+
+    // 源属性、目标属性 -> (Object source, Object target)void；不能复制时返回null
+    private static MethodHandle copyHandle(MethodHandle getter, MethodHandle setter) {
+        Class<?> from = getter.type().returnType();
+        Class<?> to = setter.type().parameterType(1);
+        MethodHandle read;
+        if (canAssign(from, to)) {
+            read = getter.asType(getter.type().changeReturnType(to));
+        } else if (isSimple(from)) {
+            MethodHandle convert = converter(to);
+            if (null == convert) {
+                return null;
+            }
+            read = MethodHandles.filterReturnValue(getter.asType(getter.type().changeReturnType(Object.class)), convert);
+        } else {
+            return null;
+        }
+        // setter(target, read(source)) -> (source, target)
+        MethodHandle copy = MethodHandles.filterArguments(setter, 1, read);
+        copy = MethodHandles.permuteArguments(copy,
+                MethodType.methodType(void.class, getter.type().parameterType(0), setter.type().parameterType(0)), 1, 0);
+        return copy.asType(COPY_TYPE);
+    }
+
+    // 可以直接赋值：引用类型兼容、基础类型相同或拓宽、基础类型装箱为对应的包装类型
+    // 包装类型 -> 基础类型不算(null需要转换为0)
+    private static boolean canAssign(Class<?> from, Class<?> to) {
+        if (from.isPrimitive()) {
+            if (to.isPrimitive()) {
+                return from == to || isWidening(from, to);
+            }
+            return to.isAssignableFrom(MethodType.methodType(from).wrap().returnType());
+        }
+        return !to.isPrimitive() && to.isAssignableFrom(from);
+    }
+
+    // 基础类型拓宽(JLS 5.1.2)，由MethodHandle.asType完成
+    private static boolean isWidening(Class<?> from, Class<?> to) {
+        if (from == byte.class) return to == short.class || isWidening(short.class, to);
+        if (from == short.class || from == char.class) return to == int.class || isWidening(int.class, to);
+        if (from == int.class) return to == long.class || isWidening(long.class, to);
+        if (from == long.class) return to == float.class || to == double.class;
+        return from == float.class && to == double.class;
+    }
+
+    private static boolean isAssignable(Class<?> type, Object value) {
+        return null == value || type.isInstance(value);
+    }
+
+    private static boolean isSimple(Class<?> type) {
+        return type.isPrimitive() || SIMPLE_TYPES.contains(type) || Number.class.isAssignableFrom(type)
+                || CharSequence.class.isAssignableFrom(type);
+    }
+
+    // (Object)to，规则与PrimitiveValueUtil.warpValue一致；目标类型不支持时返回null
+    private static MethodHandle converter(Class<?> to) {
+        if (to.isPrimitive()) {
+            return PRIMITIVE_CONVERTERS.get(to);
+        }
+        if (!SIMPLE_TYPES.contains(to)) {
+            return null;
+        }
+        return CONVERT.bindTo(PrimitiveValueUtil.converter(to)).asType(MethodType.methodType(to, Object.class));
+    }
+
+    // 可以读写的属性：非静态，能取得所属类的私有Lookup；写入时还要求非final
+    // Field来自ClassMetadata的缓存，通过私有Lookup访问，不修改它的访问标志
+    private static MethodHandle getter(Field f) {
+        MethodHandles.Lookup lookup = Modifier.isStatic(f.getModifiers()) ? null
+                : PropertyAccessor.privateLookup(f.getDeclaringClass());
+        try {
+            return null == lookup ? null : lookup.unreflectGetter(f);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle setter(Field f) {
+        int m = f.getModifiers();
+        MethodHandles.Lookup lookup = Modifier.isStatic(m) || Modifier.isFinal(m) ? null
+                : PropertyAccessor.privateLookup(f.getDeclaringClass());
+        try {
+            return null == lookup ? null : lookup.unreflectSetter(f);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    // 泛型属性只能复制到泛型相同的属性，避免List<A>复制到List<B>
+    private static boolean isSameGeneric(Field source, Field target) {
+        Type t = target.getGenericType();
+        return t instanceof Class || t.equals(source.getGenericType());
+    }
+
+    // 同名属性只取第一个(子类的)
+    private static Map<String, Field> properties(Class<?> type) {
+        Map<String, Field> ret = new LinkedHashMap<>();
+        for (Field f : ClassMetadata.of(type).getFields()) {
+            ret.putIfAbsent(f.getName(), f);
+        }
+        return ret;
+    }
+
+    // 一个源类型的全部计划；计划强引用目标类型，不用弱引用的Map(value引用key，条目不会被回收)
+    static final class CopyPlans {
+        private final Class<?> source;
+        private final ConcurrentHashMap<Class<?>, CopyPlan> plans = new ConcurrentHashMap<>();
+
+        CopyPlans(Class<?> source) {
+            this.source = source;
+        }
+
+        CopyPlan get(Class<?> target) {
+            CopyPlan plan = plans.get(target);
+            return null != plan ? plan : plans.computeIfAbsent(target, t -> new CopyPlan(source, t));
+        }
+    }
+
+    static final class CopyPlan {
+        private final MethodHandle copy;
+
+        CopyPlan(Class<?> source, Class<?> target) {
+            Map<String, Field> sourceFields = properties(source);
+            MethodHandle all = NOOP;
+            for (Field tf : properties(target).values()) {
+                Field sf = sourceFields.get(tf.getName());
+                if (null == sf || !isSameGeneric(sf, tf)) continue;
+                MethodHandle getter = getter(sf);
+                MethodHandle setter = null == getter ? null : setter(tf);
+                MethodHandle one = null == setter ? null : copyHandle(getter, setter);
+                if (null != one) {
+                    // 先执行one，再执行之前的
+                    all = MethodHandles.foldArguments(all, one);
+                }
+            }
+            this.copy = all;
+        }
+
+        @SneakyThrows
+        void copy(Object source, Object target) {
+            copy.invokeExact(source, target);
+        }
+    }
+
+    static final class MapPlan {
+        private final Class<?> type;
+        // 属性名 -> (Object target, Object value)void
+        private final Map<String, MethodHandle> setters = new HashMap<>();
+        private volatile MethodHandle constructor;
+
+        MapPlan(Class<?> type) {
+            this.type = type;
+            for (Field f : properties(type).values()) {
+                MethodHandle setter = f.getGenericType() instanceof Class ? setter(f) : null;
+                if (null == setter) continue;
+                MethodHandle convert = converter(f.getType());
+                if (null != convert) {
+                    setter = MethodHandles.filterArguments(setter, 1, convert).asType(COPY_TYPE);
+                } else {
+                    // 没有转换规则的类型(如List、嵌套对象)，值为null或类型匹配时才设置
+                    MethodHandle test = MethodHandles.dropArguments(
+                            IS_ASSIGNABLE.bindTo(f.getType()), 0, Object.class);
+                    setter = MethodHandles.guardWithTest(test, setter.asType(COPY_TYPE), NOOP);
+                }
+                setters.put(f.getName(), setter);
+            }
+        }
+
+        @SneakyThrows
+        void set(Object target, String name, Object value) {
+            MethodHandle setter = setters.get(name);
+            if (null != setter) {
+                setter.invokeExact(target, value);
+            }
+        }
+
+        @SneakyThrows
+        Object newInstance() {
+            MethodHandle mh = constructor;
+            if (null == mh) {
+                Constructor<?> c;
+                try {
+                    c = type.getDeclaredConstructor();
+                } catch (NoSuchMethodException e) {
+                    throw new IllegalArgumentException("no default constructor: " + type.getName());
+                }
+                c.setAccessible(true);
+                constructor = mh = MethodHandles.lookup().unreflectConstructor(c)
+                        .asType(MethodType.methodType(Object.class));
+            }
+            return mh.invokeExact();
+        }
+    }
+}
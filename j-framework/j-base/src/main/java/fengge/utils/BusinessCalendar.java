@@ -0,0 +1,205 @@
+package fengge.utils;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 交易日/工作日日历 - 预先计算好的索引，查询时不创建对象
+ * 每天一个bit(1=工作日)，另存每64天的累计工作日数：
+ * isBusinessDay、businessDaysBetween 为O(1)，addBusinessDays 为O(log n)
+ * <p>
+ * 周六周日默认休息，holidays是休息的工作日，workdays是需要上班的周末(调休)
+ * 日期都是yyyyMMdd整数，超出[start, end]范围抛IllegalArgumentException
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+public final class BusinessCalendar {
+    @Getter
+    private final int start;        // yyyyMMdd
+    @Getter
+    private final int end;          // yyyyMMdd
+    private final long startDay;    // epochDay
+    private final int days;
+    private final long[] bits;
+    private final int[] ranks;      // ranks[w] = 第w个word之前的工作日数
+
+    private BusinessCalendar(int start, int end, int[] holidays, int[] workdays) {
+        this.start = start;
+        this.end = end;
+        this.startDay = DateNumCodec.toEpochDay(start);
+        long endDay = DateNumCodec.toEpochDay(end);
+        if (endDay < startDay) {
+            throw new IllegalArgumentException("end[" + end + "] is before start[" + start + "]");
+        }
+        this.days = (int) (endDay - startDay + 1);
+        this.bits = new long[(days >>> 6) + 1];
+        for (int i = 0; i < days; i++) {
+            int dow = DateNumCodec.dayOfWeek(startDay + i);
+            if (dow < 6) {
+                bits[i >>> 6] |= 1L << i;
+            }
+        }
+        for (int d : holidays) {
+            int i = offsetOf(d);
+            bits[i >>> 6] &= ~(1L << i);
+        }
+        for (int d : workdays) {
+            int i = offsetOf(d);
+            bits[i >>> 6] |= 1L << i;
+        }
+        this.ranks = new int[bits.length + 1];
+        for (int w = 0; w < bits.length; w++) {
+            ranks[w + 1] = ranks[w] + Long.bitCount(bits[w]);
+        }
+    }
+
+    /**
+     * @param start    开始日期 yyyyMMdd
+     * @param end      结束日期 yyyyMMdd(含)
+     * @param holidays 节假日
+     * @param workdays 调休上班的周末，可为null
+     */
+    public static BusinessCalendar of(int start, int end, int[] holidays, int[] workdays) {
+        return new BusinessCalendar(start, end, null == holidays ? new int[0] : holidays,
+                null == workdays ? new int[0] : workdays);
+    }
+
+    /**
+     * 从本地文件加载，每行一个yyyyMMdd，范围是最早一年的1月1日到最晚一年的12月31日
+     * 格式：
+     * # 注释
+     * 20240101 元旦        -- 节假日，日期后面可以跟说明
+     * +20240204           -- 调休上班
+     */
+    public static BusinessCalendar load(Path file) {
+        return load(file, 0, 0);
+    }
+
+    /**
+     * @param start 0表示按文件中的日期计算
+     * @param end   0表示按文件中的日期计算
+     */
+    @SneakyThrows
+    public static BusinessCalendar load(Path file, int start, int end) {
+        List<Integer> holidays = new ArrayList<>();
+        List<Integer> workdays = new ArrayList<>();
+        int min = Integer.MAX_VALUE, max = Integer.MIN_VALUE;
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            String s = line.trim();
+            if (s.isEmpty() || s.charAt(0) == '#') continue;
+            boolean work = s.charAt(0) == '+';
+            if (work) s = s.substring(1).trim();
+            int i = 0;
+            while (i < s.length() && Character.isDigit(s.charAt(i))) i++;
+            int day = DateNumCodec.parseNum8(s.substring(0, i));
+            if (day <= 0) {
+                throw new IllegalArgumentException("bad calendar line in " + file + ": " + line);
+            }
+            (work ? workdays : holidays).add(day);
+            min = Math.min(min, day);
+            max = Math.max(max, day);
+        }
+        if (start == 0) {
+            if (min == Integer.MAX_VALUE) throw new IllegalArgumentException("empty calendar: " + file);
+            start = min / 10000 * 10000 + 101;
+        }
+        if (end == 0) {
+            if (max == Integer.MIN_VALUE) throw new IllegalArgumentException("empty calendar: " + file);
+            end = max / 10000 * 10000 + 1231;
+        }
+        return of(start, end, toArray(holidays), toArray(workdays));
+    }
+
+    public boolean contains(int yyyyMMdd) {
+        long i = DateNumCodec.toEpochDay(yyyyMMdd) - startDay;
+        return i >= 0 && i < days;
+    }
+
+    public boolean isBusinessDay(int yyyyMMdd) {
+        int i = offsetOf(yyyyMMdd);
+        return (bits[i >>> 6] & (1L << i)) != 0;
+    }
+
+    /**
+     * [from, to) 之间的工作日数，to在from之前时为负数
+     */
+    public int businessDaysBetween(int from, int to) {
+        return rank(offsetOf(to)) - rank(offsetOf(from));
+    }
+
+    /**
+     * 偏移n个工作日
+     * n > 0：之后的第n个工作日；n < 0：之前的第|n|个工作日；
+     * n = 0：本身是工作日返回本身，否则返回下一个工作日
+     */
+    public int addBusinessDays(int yyyyMMdd, int n) {
+        int i = offsetOf(yyyyMMdd);
+        long target;
+        if (n > 0) {
+            target = (long) rank(i + 1) + n - 1;
+        } else if (n < 0) {
+            target = (long) rank(i) + n;
+        } else {
+            target = rank(i);
+        }
+        if (target < 0 || target >= ranks[ranks.length - 1]) {
+            throw new IllegalArgumentException("out of calendar[" + start + ", " + end + "]: "
+                    + yyyyMMdd + (n >= 0 ? " + " : " - ") + Math.abs(n));
+        }
+        return DateNumCodec.ofEpochDay(startDay + select((int) target));
+    }
+
+    public int nextBusinessDay(int yyyyMMdd) {
+        return addBusinessDays(yyyyMMdd, 1);
+    }
+
+    public int prevBusinessDay(int yyyyMMdd) {
+        return addBusinessDays(yyyyMMdd, -1);
+    }
+
+    // 日期在索引中的下标
+    private int offsetOf(int yyyyMMdd) {
+        long i = DateNumCodec.toEpochDay(yyyyMMdd) - startDay;
+        if (i < 0 || i >= days) {
+            throw new IllegalArgumentException("out of calendar[" + start + ", " + end + "]: " + yyyyMMdd);
+        }
+        return (int) i;
+    }
+
+    // [0, i) 的工作日数
+    private int rank(int i) {
+        return ranks[i >>> 6] + Long.bitCount(bits[i >>> 6] & ((1L << i) - 1));
+    }
+
+    // 第r个(从0开始)工作日的下标
+    private int select(int r) {
+        int lo = 0, hi = bits.length - 1;
+        while (lo < hi) {   // 最后一个 ranks[w] <= r 的word
+            int mid = (lo + hi + 1) >>> 1;
+            if (ranks[mid] <= r) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        long word = bits[lo];
+        for (int k = r - ranks[lo]; k > 0; k--) {
+            word &= word - 1;
+        }
+        return (lo << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    private static int[] toArray(List<Integer> list) {
+        int[] ret = new int[list.size()];
+        for (int i = 0; i < ret.length; i++) {
+            ret[i] = list.get(i);
+        }
+        return ret;
+    }
+}
@@ -0,0 +1,174 @@
+package fengge.utils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.ZoneId;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 粗粒度的时钟 - 后台线程按tick刷新当前时间以及预先生成的日期字符串
+ * 用于打日志、审计记录等频繁取当前时间的场景，读取时只有volatile读，精度为tick
+ * eg:
+ * CachedClock.start(1);     // 1ms刷新一次
+ * CachedClock.day10(zone);  // yyyy-MM-dd
+ * <p>
+ * 未start时各方法直接取系统时间
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+@Slf4j
+public final class CachedClock {
+    private static final ConcurrentHashMap<String, ZoneClock> ZONES = new ConcurrentHashMap<>();
+    private static volatile long millis;
+    private static volatile boolean running;
+    private static ScheduledExecutorService updater;
+
+    private CachedClock() {
+    }
+
+    /**
+     * 启动后台刷新，重复调用会按新的tick重启
+     *
+     * @param tickMillis 刷新间隔(ms)，如1ms或1000ms
+     */
+    public static synchronized void start(long tickMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis must be positive: " + tickMillis);
+        }
+        stop();
+        tick();
+        updater = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "cached-clock");
+            t.setDaemon(true);
+            return t;
+        });
+        updater.scheduleAtFixedRate(CachedClock::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        running = true;
+    }
+
+    public static synchronized void stop() {
+        running = false;
+        if (null != updater) {
+            updater.shutdownNow();
+            updater = null;
+        }
+    }
+
+    public static boolean isRunning() {
+        return running;
+    }
+
+    // 当前时间戳
+    public static long currentTimeMillis() {
+        return running ? millis : System.currentTimeMillis();
+    }
+
+    // yyyy-MM-dd
+    public static String day10(TimeZone zone) {
+        return current(zone).day10;
+    }
+
+    // yyyyMMdd
+    public static String day8(TimeZone zone) {
+        return current(zone).day8;
+    }
+
+    // yyyy-MM-dd HH:mm:ss
+    public static String dateTime19(TimeZone zone) {
+        return current(zone).dateTime19;
+    }
+
+    private static Rendered current(TimeZone zone) {
+        if (null == zone) zone = TimeZone.getDefault();
+        if (!running) {
+            return Rendered.of(System.currentTimeMillis(), DateFormatters.toZoneId(zone), null);
+        }
+        ZoneClock zc = ZONES.get(zone.getID());
+        if (null == zc) {
+            TimeZone z = zone;
+            zc = ZONES.computeIfAbsent(zone.getID(), k -> new ZoneClock(DateFormatters.toZoneId(z), millis));
+        }
+        return zc.rendered;
+    }
+
+    // 在scheduleAtFixedRate中执行，抛出异常会取消后续的刷新(时间停在最后一次)，所以异常只记录日志
+    private static void tick() {
+        long now = System.currentTimeMillis();
+        millis = now;
+        for (ZoneClock zc : ZONES.values()) {
+            try {
+                zc.refresh(now);
+            } catch (RuntimeException e) {
+                log.error("cached clock refresh failed: {}", zc.zone, e);
+            }
+        }
+    }
+
+    /**
+     * 一个时区的日期字符串，秒变化时才重新生成
+     */
+    private static final class ZoneClock {
+        private final ZoneId zone;
+        private volatile Rendered rendered;
+
+        ZoneClock(ZoneId zone, long now) {
+            this.zone = zone;
+            this.rendered = Rendered.of(now, zone, null);
+        }
+
+        void refresh(long now) {
+            Rendered r = rendered;
+            if (Math.floorDiv(now, 1000) != r.second) {
+                rendered = Rendered.of(now, zone, r);
+            }
+        }
+    }
+
+    // 不可变，整体替换
+    private static final class Rendered {
+        final long second;
+        final int num8;
+        final String day10;
+        final String day8;
+        final String dateTime19;
+
+        private Rendered(long second, int num8, String day10, String day8, String dateTime19) {
+            this.second = second;
+            this.num8 = num8;
+            this.day10 = day10;
+            this.day8 = day8;
+            this.dateTime19 = dateTime19;
+        }
+
+        static Rendered of(long now, ZoneId zone, Rendered prev) {
+            int num8 = DateNumCodec.toNum8(now, zone);
+            int time6 = DateNumCodec.toTime6(now, zone);
+            String day10, day8;
+            if (null != prev && prev.num8 == num8) {   // 同一天复用
+                day10 = prev.day10;
+                day8 = prev.day8;
+            } else {
+                day10 = DateNumCodec.toDayStr10(num8);
+                day8 = String.valueOf(num8);
+            }
+            char[] buf = new char[19];
+            day10.getChars(0, 10, buf, 0);
+            buf[10] = ' ';
+            put2(buf, 11, time6 / 10000);
+            buf[13] = ':';
+            put2(buf, 14, time6 / 100 % 100);
+            buf[16] = ':';
+            put2(buf, 17, time6 % 100);
+            return new Rendered(Math.floorDiv(now, 1000), num8, day10, day8, new String(buf));
+        }
+
+        private static void put2(char[] buf, int i, int v) {
+            buf[i] = (char) ('0' + v / 10);
+            buf[i + 1] = (char) ('0' + v % 10);
+        }
+    }
+}
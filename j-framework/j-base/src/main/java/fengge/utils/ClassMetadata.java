@@ -0,0 +1,318 @@
+package fengge.utils;
+
+import lombok.Getter;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 类的反射元数据缓存 - 每个类第一次使用时解析一次，之后直接返回，结果与ClassUtil原来每次遍历的结果一致
+ * 包含本类和父类的属性、本类的方法、按注解的索引、按名称的属性和public setter、按签名查找的方法，以及本类属性、方法编译后的读写 @see PropertyAccessor
+ * 缓存在ClassValue中，随类一起卸载；注解索引的key都是类或父类上出现过的注解，不会引用其它ClassLoader的类
+ * 返回的List不可修改
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+public final class ClassMetadata {
+    private static final Class<?>[] EMPTY_TYPES = new Class<?>[0];
+    // 找不到方法时缓存的占位
+    private static final Method NOT_FOUND;
+
+    static {
+        try {
+            NOT_FOUND = ClassMetadata.class.getDeclaredMethod("of", Class.class);
+        } catch (NoSuchMethodException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private static final ClassValue<ClassMetadata> CACHE = new ClassValue<ClassMetadata>() {
+        @Override
+        protected ClassMetadata computeValue(Class<?> type) {
+            return new ClassMetadata(type);
+        }
+    };
+
+    @Getter
+    private final Class<?> type;
+    // 本类在前、父类在后
+    @Getter
+    private final List<Field> fields;
+    // 本类声明的方法
+    @Getter
+    private final List<Method> declaredMethods;
+    // 同名属性取子类的
+    private final Map<String, Field> fieldsByName;
+    // 本类和父类中带某个注解的属性
+    private final Map<Class<? extends Annotation>, List<Field>> fieldsByAnnotation;
+    // 本类中带某个注解的方法
+    private final Map<Class<? extends Annotation>, List<Method>> declaredMethodsByAnnotation;
+    // 本类和父类中带某个注解的方法，排除被子类覆盖的
+    private final Map<Class<? extends Annotation>, List<Method>> methodsByAnnotation;
+    // 方法名 -> 只有public修饰、一个参数的方法，子类优先
+    private final Map<String, Method> setters;
+    // 本类声明的属性，和对应的编译后的读写(用到时才创建，并发时可能重复创建，结果相同)
+    private final Field[] ownFields;
+    private final PropertyAccessor[] fieldAccessors;
+    // 本类的Method -> 编译后的读写
+    private final ConcurrentHashMap<Method, PropertyAccessor> methodAccessors = new ConcurrentHashMap<>();
+    // 属性名 -> 属性(含父类)的读写、setter的读写，只缓存存在的
+    private final ConcurrentHashMap<String, PropertyAccessor> fieldAccessorsByName = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, PropertyAccessor> settersByProperty = new ConcurrentHashMap<>();
+    // (方法名, 参数类型) -> 本类或父类中的方法，没有时缓存NOT_FOUND；只缓存对本类的查询，父类的查询不写入这里
+    private final ConcurrentHashMap<MethodKey, Method> methodsBySignature = new ConcurrentHashMap<>();
+
+    public static ClassMetadata of(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    private ClassMetadata(Class<?> type) {
+        this.type = type;
+        Class<?> superclass = type.getSuperclass();
+        ClassMetadata parent = null == superclass ? null : of(superclass);
+
+        Field[] ownFields = type.getDeclaredFields();
+        this.ownFields = ownFields;
+        this.fieldAccessors = new PropertyAccessor[ownFields.length];
+        List<Field> allFields = new ArrayList<>(Arrays.asList(ownFields));
+        if (null != parent) allFields.addAll(parent.fields);
+        this.fields = List.copyOf(allFields);
+        Map<String, Field> byName = new HashMap<>();
+        for (Field f : fields) {
+            byName.putIfAbsent(f.getName(), f);
+        }
+        this.fieldsByName = byName;
+        this.fieldsByAnnotation = merge(indexByAnnotation(ownFields), null == parent ? null : parent.fieldsByAnnotation,
+                list -> list);
+
+        Method[] ownMethods = type.getDeclaredMethods();
+        this.declaredMethods = List.of(ownMethods);
+        Map<Class<? extends Annotation>, List<Method>> ownIndex = indexByAnnotation(ownMethods);
+        this.declaredMethodsByAnnotation = freeze(ownIndex);
+        // 父类的方法如果在本类中有相同的定义(被覆盖)，排除
+        this.methodsByAnnotation = merge(ownIndex, null == parent ? null : parent.methodsByAnnotation,
+                list -> {
+                    List<Method> ret = new ArrayList<>(list.size());
+                    for (Method sm : list) {
+                        if (!ClassUtil.isInMethods(sm, ownMethods)) ret.add(sm);
+                    }
+                    return ret;
+                });
+
+        Map<String, Method> setterMap = new HashMap<>();
+        for (Method m : ownMethods) {
+            if (m.getModifiers() == 1 && m.getParameterCount() == 1) {
+                setterMap.putIfAbsent(m.getName(), m);
+            }
+        }
+        if (null != parent) {
+            parent.setters.forEach(setterMap::putIfAbsent);
+        }
+        this.setters = setterMap;
+    }
+
+    /**
+     * 按名称查找属性(含父类)，同名时返回子类的；没有返回null
+     */
+    public Field getField(String name) {
+        return fieldsByName.get(name);
+    }
+
+    /**
+     * 本类和父类中带注解的属性
+     */
+    public List<Field> getFieldsWithAnnotation(Class<? extends Annotation> annotationClass) {
+        return fieldsByAnnotation.getOrDefault(annotationClass, List.of());
+    }
+
+    /**
+     * 带注解的方法
+     *
+     * @param withSuper 是否包含父类的方法(排除被覆盖的)
+     */
+    public List<Method> getMethodsWithAnnotation(Class<? extends Annotation> annotationClass, boolean withSuper) {
+        return (withSuper ? methodsByAnnotation : declaredMethodsByAnnotation).getOrDefault(annotationClass, List.of());
+    }
+
+    /**
+     * 按方法名查找只有public修饰、一个参数的方法(含父类)，子类优先；没有返回null
+     */
+    public Method getSetter(String methodName) {
+        return setters.get(methodName);
+    }
+
+    /**
+     * 按方法名和参数类型查找方法，本类没有时找父类，与逐级调用Class.getDeclaredMethod的结果一致；没有返回null
+     * 找到和找不到的结果只缓存在本类，父类(如Object)不缓存子类的查询，不抛出、不记录异常
+     * 参数类型不是本类的ClassLoader(及其父级)加载的，不缓存，避免本类的缓存持有其它ClassLoader的类
+     */
+    public Method findMethod(String name, Class<?>... parameterTypes) {
+        if (null == name) {
+            return null;
+        }
+        MethodKey key = new MethodKey(name, null == parameterTypes ? EMPTY_TYPES : parameterTypes);
+        Method m = methodsBySignature.get(key);
+        if (null == m) {
+            m = searchMethod(key);
+            for (Class<?> c = type.getSuperclass(); null == m && null != c; c = c.getSuperclass()) {
+                m = of(c).searchMethod(key);
+            }
+            if (isVisible(key.parameterTypes)) {
+                // 参数数组可能被调用方修改，缓存时复制
+                methodsBySignature.putIfAbsent(new MethodKey(name, key.parameterTypes.clone()), null == m ? NOT_FOUND : m);
+            }
+            return m;
+        }
+        return m == NOT_FOUND ? null : m;
+    }
+
+    // 参数类型都由本类的ClassLoader或其父级加载：这些类不会先于本类卸载
+    private boolean isVisible(Class<?>[] parameterTypes) {
+        for (Class<?> p : parameterTypes) {
+            ClassLoader loader = p.getClassLoader();
+            if (null == loader) continue;
+            ClassLoader l = type.getClassLoader();
+            while (null != l && l != loader) {
+                l = l.getParent();
+            }
+            if (null == l) return false;
+        }
+        return true;
+    }
+
+    // 同Class.getDeclaredMethod：同名同参数的多个方法(桥接方法)取返回类型最具体的
+    private Method searchMethod(MethodKey key) {
+        Method ret = null;
+        for (Method m : declaredMethods) {
+            if (m.getName().equals(key.name) && Arrays.equals(m.getParameterTypes(), key.parameterTypes)
+                    && (null == ret || (ret.getReturnType() != m.getReturnType()
+                    && ret.getReturnType().isAssignableFrom(m.getReturnType())))) {
+                ret = m;
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * 按名称查找属性(含父类)的读写，同名时取子类的；没有返回null
+     */
+    public PropertyAccessor getFieldAccessor(String name) {
+        PropertyAccessor accessor = fieldAccessorsByName.get(name);
+        if (null == accessor) {
+            Field f = fieldsByName.get(name);
+            if (null == f) {
+                return null;
+            }
+            accessor = PropertyAccessor.of(f);
+            fieldAccessorsByName.put(name, accessor);
+        }
+        return accessor;
+    }
+
+    /**
+     * 按属性名查找setter(setXxx，同getSetter)的读写；没有返回null
+     */
+    public PropertyAccessor getSetterAccessor(String propertyName) {
+        PropertyAccessor accessor = settersByProperty.get(propertyName);
+        if (null == accessor) {
+            Method m = setters.get("set" + NameStringUtil.toClassName(propertyName));
+            if (null == m) {
+                return null;
+            }
+            accessor = PropertyAccessor.of(m);
+            settersByProperty.put(propertyName, accessor);
+        }
+        return accessor;
+    }
+
+    // 先按引用查找(来自本缓存的Field)，再按equals(Class.getDeclaredField等返回的副本)
+    PropertyAccessor accessor(Field field) {
+        int index = -1;
+        for (int i = 0; i < ownFields.length; i++) {
+            if (ownFields[i] == field) {
+                index = i;
+                break;
+            }
+        }
+        if (index < 0) {
+            for (int i = 0; i < ownFields.length; i++) {
+                if (ownFields[i].equals(field)) {
+                    index = i;
+                    break;
+                }
+            }
+        }
+        if (index < 0) {
+            throw new IllegalArgumentException(field + " is not declared in " + type.getName());
+        }
+        PropertyAccessor accessor = fieldAccessors[index];
+        if (null == accessor) {
+            // PropertyAccessor的属性都是final，不加锁发布也是安全的
+            fieldAccessors[index] = accessor = PropertyAccessor.compile(ownFields[index]);
+        }
+        return accessor;
+    }
+
+    PropertyAccessor accessor(Method method) {
+        PropertyAccessor accessor = methodAccessors.get(method);
+        return null != accessor ? accessor : methodAccessors.computeIfAbsent(method, k -> PropertyAccessor.compile(method));
+    }
+
+    private static final class MethodKey {
+        private final String name;
+        private final Class<?>[] parameterTypes;
+        private final int hash;
+
+        MethodKey(String name, Class<?>[] parameterTypes) {
+            this.name = name;
+            this.parameterTypes = parameterTypes;
+            this.hash = 31 * name.hashCode() + Arrays.hashCode(parameterTypes);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof MethodKey)) return false;
+            MethodKey k = (MethodKey) o;
+            return hash == k.hash && name.equals(k.name) && Arrays.equals(parameterTypes, k.parameterTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static <T extends AccessibleObject> Map<Class<? extends Annotation>, List<T>> indexByAnnotation(T[] members) {
+        Map<Class<? extends Annotation>, List<T>> index = new HashMap<>();
+        for (T member : members) {
+            for (Annotation a : member.getDeclaredAnnotations()) {
+                index.computeIfAbsent(a.annotationType(), k -> new ArrayList<>()).add(member);
+            }
+        }
+        return index;
+    }
+
+    // 本类的在前，父类的(经过filter)在后
+    private static <T> Map<Class<? extends Annotation>, List<T>> merge(Map<Class<? extends Annotation>, List<T>> own,
+                                                                       Map<Class<? extends Annotation>, List<T>> parent,
+                                                                       Function<List<T>, List<T>> filter) {
+        if (null != parent) {
+            parent.forEach((k, list) -> own.computeIfAbsent(k, x -> new ArrayList<>()).addAll(filter.apply(list)));
+        }
+        return freeze(own);
+    }
+
+    private static <T> Map<Class<? extends Annotation>, List<T>> freeze(Map<Class<? extends Annotation>, List<T>> index) {
+        Map<Class<? extends Annotation>, List<T>> ret = new HashMap<>();
+        index.forEach((k, list) -> {
+            if (!list.isEmpty()) ret.put(k, List.copyOf(list));
+        });
+        return ret;
+    }
+}
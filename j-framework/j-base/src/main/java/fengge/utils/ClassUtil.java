@@ -6,13 +6,14 @@ import lombok.extern.slf4j.Slf4j;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.LinkedList;
 import java.util.List;
 
 /**
  * get declared method - 开发定义的本类的方法，即排除了jdk的方法
  * get method - 包含本来和父类（含jkd/Object类）的所以public方法
+ * 返回的Field/Method来自缓存 @see ClassMetadata，多个调用方共用同一个对象；本类的读写方法不会修改它们的访问标志(setAccessible)
  * @author max.hu  @Date 2022/8/29
  * @Description:
  **/
@@ -23,20 +24,10 @@ public class ClassUtil {
         return Class.forName(className);
     }
 
-    // 查找第一个匹配类的公开方法 - 从子类往父类递归找到第一个匹配的
+    // 查找第一个匹配类的公开方法 - 从子类往父类递归找到第一个匹配的，没有返回null
+    // 结果(含找不到)按(类, 方法名, 参数类型)缓存，不再逐级抛出NoSuchMethodException和打印日志
     public static Method getDeclaredMethod(Class clazz, String name, Class<?>... parameterTypes) {
-        Method method = null;
-        try {
-            method = clazz.getDeclaredMethod(name, parameterTypes);
-            return method;  // clazz.getDeclaredMethod 返回值不为空
-        } catch (Exception e) {
-            log.warn("No Method: {}.{}", clazz.getName(), name);
-        }
-        Class sc = clazz.getSuperclass();
-        if (null != sc) {
-            method = getDeclaredMethod(sc, name, parameterTypes);
-        }
-        return method;
+        return ClassMetadata.of(clazz).findMethod(name, parameterTypes);
     }
 
     // 比较2个方法的入参是否一致
@@ -64,28 +55,10 @@ public class ClassUtil {
         return true;
     }
 
-    // 查询带注解的方法
+    // 查询带注解的方法 - 父类中被子类覆盖的方法(override)不返回
     public static List<Method> getDeclaredMethodsWithAnnotation(Class clazz, Class<? extends Annotation> annotationClass,
                                                                 boolean withSuper) {
-        List<Method> ret = new LinkedList<>();
-        Method[] methods = clazz.getDeclaredMethods();
-        for (Method m : methods) {
-            if (null != m.getAnnotation(annotationClass)) {
-                ret.add(m);
-            }
-        }
-        if (withSuper) {
-            Class sc = clazz.getSuperclass();
-            if (null != sc) {
-                List<Method> superMethods = getDeclaredMethodsWithAnnotation(sc, annotationClass, true);
-                // override method - 判断父类的方法是否被子类中的某个方法覆盖了
-                for (Method sm : superMethods) {
-                    if (isInMethods(sm, methods)) continue;
-                    ret.add(sm);
-                }
-            }
-        }
-        return ret;
+        return new ArrayList<>(ClassMetadata.of(clazz).getMethodsWithAnnotation(annotationClass, withSuper));
     }
 
     /**
@@ -102,67 +75,70 @@ public class ClassUtil {
         return false;
     }
 
-    // 查询带注解的属性
+    // 查询带注解的属性 - 含父类，元数据已缓存，返回的List可以修改
     public static List<Field> getDeclaredFieldsWithAnnotation(Class clazz, Class<? extends Annotation> annotationClass) {
-        List<Field> ret = new LinkedList<>();
-        Field[] fields = clazz.getDeclaredFields();
-        for (Field f : fields) {
-            if (null != f.getAnnotation(annotationClass)) {
-                ret.add(f);
+        return new ArrayList<>(ClassMetadata.of(clazz).getFieldsWithAnnotation(annotationClass));
+    }
+
+    // 查询带注解的属性 - 同getDeclaredFieldsWithAnnotation，优先使用编译期索引(j-index)，只解析带注解的属性
+    // 不在索引中的类(及其父类)使用反射，启动时在大量类中查找注解时使用
+    public static List<Field> getIndexedFieldsWithAnnotation(Class clazz, Class<? extends Annotation> annotationClass) {
+        List<Field> ret = new ArrayList<>();
+        for (Class<?> c = clazz; null != c; c = c.getSuperclass()) {
+            List<Field> fields = AnnotationIndex.getFields(c, annotationClass);
+            if (null == fields) {
+                ret.addAll(ClassMetadata.of(c).getFieldsWithAnnotation(annotationClass));
+                break;
             }
-        }
-        Class sc = clazz.getSuperclass();
-        if (null != sc) {
-            ret.addAll(getDeclaredFieldsWithAnnotation(sc, annotationClass));
+            ret.addAll(fields);
         }
         return ret;
     }
 
+    // 查询本类带注解的方法 - 同getDeclaredMethodsWithAnnotation(clazz, annotationClass, false)，优先使用编译期索引
+    // 索引中没有编译器生成的桥接方法(反射的结果中桥接方法也带有注解)
+    public static List<Method> getIndexedMethodsWithAnnotation(Class clazz, Class<? extends Annotation> annotationClass) {
+        List<Method> methods = AnnotationIndex.getMethods(clazz, annotationClass);
+        return new ArrayList<>(null != methods ? methods
+                : ClassMetadata.of(clazz).getMethodsWithAnnotation(annotationClass, false));
+    }
+
+    // 本类和父类的属性，本类在前
     public static List<Field> getDeclaredFields(Class clazz) {
-        List<Field> ret = new LinkedList<>();
-        Field[] fields = clazz.getDeclaredFields();
-        for (Field f : fields) {
-            ret.add(f);
-        }
-        Class sc = clazz.getSuperclass();
-        if (null != sc) {
-            ret.addAll(getDeclaredFields(sc));
-        }
-        return ret;
+        return new ArrayList<>(ClassMetadata.of(clazz).getFields());
     }
 
     // 读取对象属性的值
+    // 使用编译后的读写(按Field缓存) @see PropertyAccessor，不修改Field的访问标志：
+    // getDeclaredFields等返回的Field来自缓存、多个调用方共用，不会因为这里的读写变成accessible
     public static Object getFieldValue(Object obj, Field f) {
         try {
-            boolean flag = f.isAccessible();
-            f.setAccessible(true);
-            Object v = f.get(obj);
-            f.setAccessible(flag);
-            return v;
+            return PropertyAccessor.of(f).get(obj);
         } catch (Exception e) {
             log.error(obj.getClass().getName() + "." + f.getName(), e);
         }
         return null;
     }
 
-    // 通过属性注入
+    // 通过属性注入 - 同名属性注入到子类的，使用编译后的读写
     public static boolean silencedInjection(Object obj, String fieldName, Object value) {
-        List<Field> fields = getDeclaredFields(obj.getClass());
-        for (Field f : fields) {
-            if (f.getName().equals(fieldName)) {
-                return silencedInjection(obj, f, value);
-            }
+        PropertyAccessor accessor = ClassMetadata.of(obj.getClass()).getFieldAccessor(fieldName);
+        if (null == accessor) {
+            return false;
+        }
+        try {
+            accessor.set(obj, value);
+            return true;
+        } catch (Exception e) {
+            log.error("injection: {}.{}", obj.getClass().getSimpleName(), fieldName, e);
         }
         return false;
     }
 
-    // 通过属性注入
+    // 通过属性注入 - 同getFieldValue，不修改Field的访问标志
     public static boolean silencedInjection(Object obj, Field f, Object value) {
         try {
-            boolean flag = f.isAccessible();
-            f.setAccessible(true);
-            f.set(obj, value);
-            f.setAccessible(flag);
+            PropertyAccessor.of(f).set(obj, value);
             return true;
         } catch (Exception e) {
             log.error("injection: {}.{}", f.getClass().getSimpleName(), f.getName(), e);
@@ -174,24 +150,9 @@ public class ClassUtil {
     // 在setter方法中含有逻辑时，使用setter注入属性比较合适
     public static boolean silencedSetter(Object obj, String fieldName, Object value) {
         try {
-            String setter = "set" + NameStringUtil.toClassName(fieldName);
-            Class clazz = obj.getClass();
-            Method method = null;
-            while (null != clazz) {
-                Method[] methods = clazz.getDeclaredMethods();
-                for (Method m : methods) {
-                    if (m.getModifiers() == 1 && m.getName().equals(setter) && m.getParameterCount() == 1) {
-                        method = m;
-                        break;
-                    }
-                }
-                if (null != method) {
-                    break;
-                }
-                clazz = clazz.getSuperclass();
-            }
-            if (null != method) {
-                method.invoke(obj, value);
+            PropertyAccessor accessor = ClassMetadata.of(obj.getClass()).getSetterAccessor(fieldName);
+            if (null != accessor) {
+                accessor.set(obj, value);
                 return true;
             }
         } catch (Exception e) {
@@ -0,0 +1,151 @@
+package fengge.utils;
+
+import java.time.ZoneId;
+import java.util.TimeZone;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * 整列日期转换 - 一次调用转换一整列交易日/时间戳
+ * 1，out参数可以传入上次的数组复用，长度不够时才新建
+ * 2，数据量超过parallelThreshold时拆分到ForkJoinPool.commonPool()并行转换
+ * eg:
+ * int[] days = DateColumns.toNum8(timestamps, zone, days);
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+public final class DateColumns {
+    private static volatile int parallelThreshold = 1 << 16;
+
+    private DateColumns() {
+    }
+
+    public static int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * 超过这个数量才并行，<=0表示不并行
+     */
+    public static void setParallelThreshold(int threshold) {
+        parallelThreshold = threshold;
+    }
+
+    // 时间戳 -> yyyyMMdd
+    public static int[] toNum8(long[] timestamps, TimeZone zone, int[] out) {
+        return toNum8(timestamps, timestamps.length, zone, out);
+    }
+
+    public static int[] toNum8(long[] timestamps, int length, TimeZone zone, int[] out) {
+        int[] ret = null != out && out.length >= length ? out : new int[length];
+        ZoneId zoneId = DateFormatters.toZoneId(zone);
+        run(length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                ret[i] = DateNumCodec.toNum8(timestamps[i], zoneId);
+            }
+        });
+        return ret;
+    }
+
+    /**
+     * 日期字符串 -> 时间戳
+     * yyyyMMdd/yyyy-MM-dd直接计算，其它格式同DatetimeUtil.parseDate；null转为0
+     */
+    public static long[] toTimestamps(String[] days, TimeZone zone, long[] out) {
+        return toTimestamps(days, days.length, zone, out);
+    }
+
+    public static long[] toTimestamps(String[] days, int length, TimeZone zone, long[] out) {
+        long[] ret = null != out && out.length >= length ? out : new long[length];
+        ZoneId zoneId = DateFormatters.toZoneId(zone);
+        run(length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                ret[i] = toTimestamp(days[i], zone, zoneId);
+            }
+        });
+        return ret;
+    }
+
+    // yyyyMMdd -> yyyy-MM-dd
+    public static String[] toDayStr10(int[] days, String[] out) {
+        return toDayStr10(days, days.length, out);
+    }
+
+    public static String[] toDayStr10(int[] days, int length, String[] out) {
+        String[] ret = null != out && out.length >= length ? out : new String[length];
+        run(length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                ret[i] = DatetimeUtil.dayStr8To10(days[i]);
+            }
+        });
+        return ret;
+    }
+
+    // stream 版本，并行由调用方的stream决定
+    public static IntStream toNum8(LongStream timestamps, TimeZone zone) {
+        ZoneId zoneId = DateFormatters.toZoneId(zone);
+        return timestamps.mapToInt(ts -> DateNumCodec.toNum8(ts, zoneId));
+    }
+
+    public static LongStream toTimestamps(Stream<String> days, TimeZone zone) {
+        ZoneId zoneId = DateFormatters.toZoneId(zone);
+        return days.mapToLong(ds -> toTimestamp(ds, zone, zoneId));
+    }
+
+    public static Stream<String> toDayStr10(IntStream days) {
+        return days.mapToObj(DatetimeUtil::dayStr8To10);
+    }
+
+    private static long toTimestamp(String ds, TimeZone zone, ZoneId zoneId) {
+        if (null == ds) return 0L;
+        int num8 = DateNumCodec.parseNum8(ds);
+        if (num8 > 0) {
+            return DateNumCodec.toTimestamp(num8, 0, zoneId);
+        }
+        return DatetimeUtil.parseDate(ds, zone).getTime();
+    }
+
+    private static void run(int length, RangeOp op) {
+        int threshold = parallelThreshold;
+        if (threshold <= 0 || length <= threshold || ForkJoinPool.getCommonPoolParallelism() <= 1) {
+            op.apply(0, length);
+            return;
+        }
+        // 每个cpu分4段，便于work-stealing
+        int chunk = Math.max(length / (ForkJoinPool.getCommonPoolParallelism() * 4), 4096);
+        ForkJoinPool.commonPool().invoke(new RangeTask(op, 0, length, chunk));
+    }
+
+    @FunctionalInterface
+    private interface RangeOp {
+        void apply(int from, int to);
+    }
+
+    private static final class RangeTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+        private final RangeOp op;
+        private final int from;
+        private final int to;
+        private final int chunk;
+
+        RangeTask(RangeOp op, int from, int to, int chunk) {
+            this.op = op;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunk) {
+                op.apply(from, to);
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(new RangeTask(op, from, mid, chunk), new RangeTask(op, mid, to, chunk));
+        }
+    }
+}
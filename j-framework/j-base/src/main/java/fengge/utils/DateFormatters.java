@@ -0,0 +1,149 @@
+package fengge.utils;
+
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.format.ResolverStyle;
+import java.time.format.SignStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 线程安全的日期格式化/解析 - 代替每次new SimpleDateFormat
+ * DateTimeFormatter是不可变对象，按(pattern, zone)缓存后可以在多线程中共享
+ * <p>
+ * 与SimpleDateFormat保持一致的地方：
+ * 1，解析是宽松的：数字位数可变（2024-1-2），日期溢出会顺延（02-30 -> 03-01）
+ * 2，只解析到pattern结束，后面多余的内容忽略（yyyy-MM-dd 可以解析 2024-01-02 10:00:00）
+ * 3，zone为null时使用系统默认时区
+ * 4，'u' 与SimpleDateFormat一样表示星期几的数字(1=星期一)，不是DateTimeFormatter中的年
+ * 5，'S' 与SimpleDateFormat一样表示毫秒数(S个数为最少位数，813毫秒按S输出813)，不是DateTimeFormatter中的秒的小数部分
+ *    紧跟在其它数字字段后的S、SS(如HHmmssS)只保证输出一致，解析时请用SSS
+ * 注意：其它字母按DateTimeFormatter解释，常用的 yMdHms 两者一致
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+public final class DateFormatters {
+    // pattern通常是常量，超过上限说明是动态拼接的pattern，不再缓存
+    private static final int MAX_PATTERNS = 256;
+    private static final ConcurrentHashMap<String, ConcurrentHashMap<ZoneId, DateTimeFormatter>> CACHE = new ConcurrentHashMap<>();
+    // TimeZone.toZoneId()每次都会创建对象
+    private static final ConcurrentHashMap<String, ZoneId> ZONES = new ConcurrentHashMap<>();
+
+    private DateFormatters() {
+    }
+
+    /**
+     * 取缓存的formatter
+     *
+     * @param pattern 日期格式
+     * @param zone    时区，null使用系统默认时区
+     */
+    public static DateTimeFormatter of(String pattern, ZoneId zone) {
+        if (null == zone) zone = ZoneId.systemDefault();
+        ConcurrentHashMap<ZoneId, DateTimeFormatter> zones = CACHE.get(pattern);
+        if (null == zones) {
+            if (CACHE.size() >= MAX_PATTERNS) {
+                return build(pattern, zone);
+            }
+            zones = CACHE.computeIfAbsent(pattern, k -> new ConcurrentHashMap<>());
+        }
+        DateTimeFormatter f = zones.get(zone);
+        if (null == f) {
+            f = zones.computeIfAbsent(zone, z -> build(pattern, z));
+        }
+        return f;
+    }
+
+    public static DateTimeFormatter of(String pattern, TimeZone zone) {
+        return of(pattern, toZoneId(zone));
+    }
+
+    public static ZoneId toZoneId(TimeZone zone) {
+        if (null == zone) return ZoneId.systemDefault();
+        ZoneId id = ZONES.get(zone.getID());
+        if (null == id) {
+            id = zone.toZoneId();
+            if (ZONES.size() < MAX_PATTERNS) {
+                ZONES.putIfAbsent(zone.getID(), id);
+            }
+        }
+        return id;
+    }
+
+    // 时间戳格式化
+    public static String format(long timestamp, String pattern, TimeZone zone) {
+        return of(pattern, zone).format(Instant.ofEpochMilli(timestamp));
+    }
+
+    /**
+     * 解析成时间戳，pattern中没有时间的部分按0点计算
+     *
+     * @throws DateTimeException 格式不正确
+     */
+    public static long parse(CharSequence text, String pattern, TimeZone zone) {
+        return parse(text, of(pattern, zone));
+    }
+
+    public static long parse(CharSequence text, DateTimeFormatter formatter) {
+        // 带ParsePosition时不要求解析完整个字符串，与SimpleDateFormat.parse一致
+        TemporalAccessor parsed = formatter.parse(text, new ParsePosition(0));
+        LocalDate date = parsed.query(TemporalQueries.localDate());
+        if (null == date) {
+            throw new DateTimeException("Date String[" + text + "] has no date part: " + formatter);
+        }
+        LocalTime time = parsed.query(TemporalQueries.localTime());
+        // 带offset的pattern(Z/X)以解析出的为准，否则是formatter的时区
+        ZoneId zone = parsed.query(TemporalQueries.zone());
+        // 夏令时重叠的时刻与SimpleDateFormat一致，取后一个offset
+        return LocalDateTime.of(date, null == time ? LocalTime.MIDNIGHT : time)
+                .atZone(zone).withLaterOffsetAtOverlap().toInstant().toEpochMilli();
+    }
+
+    private static DateTimeFormatter build(String pattern, ZoneId zone) {
+        DateTimeFormatterBuilder builder = new DateTimeFormatterBuilder().parseLenient();
+        appendPattern(builder, pattern);
+        return builder.toFormatter()
+                .withResolverStyle(ResolverStyle.LENIENT)
+                .withZone(zone);
+    }
+
+    // 引号外的 'u'、'S' 按SimpleDateFormat的含义(星期几，1=星期一；毫秒数)转换，其它部分原样交给DateTimeFormatter
+    private static void appendPattern(DateTimeFormatterBuilder builder, String pattern) {
+        boolean quoted = false;
+        int from = 0;
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if ((c == 'u' || c == 'S') && !quoted) {
+                int end = i;
+                while (end < pattern.length() && pattern.charAt(end) == c) end++;
+                if (i > from) builder.appendPattern(pattern.substring(from, i));
+                ChronoField field = c == 'u' ? ChronoField.DAY_OF_WEEK : ChronoField.MILLI_OF_SECOND;
+                int width = end - i;
+                // 与SimpleDateFormat一样，字母个数是最少位数，不截断；
+                // 紧跟在其它字段后面(如HHmmssSSS)时按固定位数，否则前面的数字会把毫秒一起读走
+                if (i > 0 && Character.isLetter(pattern.charAt(i - 1)) && (c == 'u' || width >= 3)) {
+                    builder.appendValue(field, width);
+                } else if (width == 1) {
+                    builder.appendValue(field);
+                } else {
+                    builder.appendValue(field, width, 19, SignStyle.NOT_NEGATIVE);
+                }
+                from = end;
+                i = end - 1;
+            }
+        }
+        if (from < pattern.length()) builder.appendPattern(pattern.substring(from));
+    }
+}
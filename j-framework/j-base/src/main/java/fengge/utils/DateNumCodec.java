@@ -0,0 +1,266 @@
+package fengge.utils;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * yyyyMMdd / HHmmss 整数日期的编解码 - 纯整数运算，不经过String和SimpleDateFormat
+ * 日期与epochDay的换算参考: http://howardhinnant.github.io/date_algorithms.html
+ * <p>
+ * 时区offset按zone缓存1900~2100年间的所有跳变点(夏令时)，二分查找，查询时不创建对象；
+ * 超出范围的时间使用ZoneRules计算
+ * 本地时间落在夏令时的重叠区间取后一个offset，落在间隙中往后顺延，与SimpleDateFormat/java.time一致
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+public final class DateNumCodec {
+    public static final int SECONDS_PER_DAY = 86400;
+    private static final int DAYS_0000_TO_1970 = 719468;
+    private static final ConcurrentHashMap<ZoneId, ZoneOffsets> ZONES = new ConcurrentHashMap<>();
+
+    private DateNumCodec() {
+    }
+
+    // yyyyMMdd -> 1970-01-01开始的天数
+    public static long toEpochDay(int num8) {
+        return toEpochDay(num8 / 10000, num8 / 100 % 100, num8 % 100);
+    }
+
+    public static long toEpochDay(int year, int month, int day) {
+        long y = month <= 2 ? year - 1 : year;
+        long era = (y >= 0 ? y : y - 399) / 400;
+        long yoe = y - era * 400;
+        long doy = (153L * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        long doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+        return era * 146097 + doe - DAYS_0000_TO_1970;
+    }
+
+    // 1970-01-01开始的天数 -> yyyyMMdd
+    public static int ofEpochDay(long epochDay) {
+        long z = epochDay + DAYS_0000_TO_1970;
+        long era = (z >= 0 ? z : z - 146096) / 146097;
+        long doe = z - era * 146097;
+        long yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        long doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        long mp = (5 * doy + 2) / 153;
+        int day = (int) (doy - (153 * mp + 2) / 5 + 1);
+        int month = (int) (mp < 10 ? mp + 3 : mp - 9);
+        int year = (int) (yoe + era * 400 + (month <= 2 ? 1 : 0));
+        return year * 10000 + month * 100 + day;
+    }
+
+    // 星期几：1(周一) ~ 7(周日)，同DayOfWeek.getValue()
+    public static int dayOfWeek(long epochDay) {
+        return Math.floorMod(epochDay + 3, 7) + 1;
+    }
+
+    public static int toNum8(int year, int month, int day) {
+        return year * 10000 + month * 100 + day;
+    }
+
+    public static int toNum8(LocalDate date) {
+        return toNum8(date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+    }
+
+    public static int toNum8(LocalDateTime dateTime) {
+        return toNum8(dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth());
+    }
+
+    public static LocalDate toLocalDate(int num8) {
+        return LocalDate.of(num8 / 10000, num8 / 100 % 100, num8 % 100);
+    }
+
+    // 时间戳 -> yyyyMMdd
+    public static int toNum8(long timestamp, TimeZone zone) {
+        return toNum8(timestamp, DateFormatters.toZoneId(zone));
+    }
+
+    public static int toNum8(long timestamp, ZoneId zone) {
+        return ofEpochDay(Math.floorDiv(localSeconds(timestamp, zone), SECONDS_PER_DAY));
+    }
+
+    // 时间戳 -> HHmmss
+    public static int toTime6(long timestamp, TimeZone zone) {
+        return toTime6(timestamp, DateFormatters.toZoneId(zone));
+    }
+
+    public static int toTime6(long timestamp, ZoneId zone) {
+        int sec = Math.floorMod(localSeconds(timestamp, zone), SECONDS_PER_DAY);
+        return sec / 3600 * 10000 + sec / 60 % 60 * 100 + sec % 60;
+    }
+
+    // yyyyMMdd + HHmmss -> 时间戳
+    public static long toTimestamp(int num8, int time6, TimeZone zone) {
+        return toTimestamp(num8, time6, DateFormatters.toZoneId(zone));
+    }
+
+    public static long toTimestamp(int num8, int time6, ZoneId zone) {
+        long local = toEpochDay(num8) * SECONDS_PER_DAY
+                + time6 / 10000 * 3600L + time6 / 100 % 100 * 60L + time6 % 100;
+        return (local - offsets(zone).offsetOfLocal(local)) * 1000;
+    }
+
+    // yyyyMMdd 0点的时间戳
+    public static long toTimestamp(int num8, TimeZone zone) {
+        return toTimestamp(num8, 0, zone);
+    }
+
+    /**
+     * 解析 yyyyMMdd 或 yyyy-MM-dd
+     *
+     * @return 格式不对返回-1
+     */
+    public static int parseNum8(CharSequence cs) {
+        if (null == cs) return -1;
+        int len = cs.length();
+        if (len == 8) {
+            return digits(cs, 0, 8);
+        }
+        if (len == 10 && cs.charAt(4) == '-' && cs.charAt(7) == '-') {
+            int y = digits(cs, 0, 4), m = digits(cs, 5, 7), d = digits(cs, 8, 10);
+            return (y | m | d) < 0 ? -1 : toNum8(y, m, d);
+        }
+        return -1;
+    }
+
+    /**
+     * yyyyMMdd -> yyyy-MM-dd
+     */
+    public static String toDayStr10(int num8) {
+        char[] buf = new char[10];
+        int y = num8 / 10000, m = num8 / 100 % 100, d = num8 % 100;
+        buf[0] = (char) ('0' + y / 1000);
+        buf[1] = (char) ('0' + y / 100 % 10);
+        buf[2] = (char) ('0' + y / 10 % 10);
+        buf[3] = (char) ('0' + y % 10);
+        buf[4] = '-';
+        buf[5] = (char) ('0' + m / 10);
+        buf[6] = (char) ('0' + m % 10);
+        buf[7] = '-';
+        buf[8] = (char) ('0' + d / 10);
+        buf[9] = (char) ('0' + d % 10);
+        return new String(buf);
+    }
+
+    // 时间戳对应的本地秒数
+    public static long localSeconds(long timestamp, ZoneId zone) {
+        long sec = Math.floorDiv(timestamp, 1000);
+        return sec + offsets(zone).offsetOfInstant(sec);
+    }
+
+    private static int digits(CharSequence cs, int from, int to) {
+        int v = 0;
+        for (int i = from; i < to; i++) {
+            int c = cs.charAt(i) - '0';
+            if (c < 0 || c > 9) return -1;
+            v = v * 10 + c;
+        }
+        return v;
+    }
+
+    private static ZoneOffsets offsets(ZoneId zone) {
+        if (null == zone) zone = ZoneId.systemDefault();
+        ZoneOffsets o = ZONES.get(zone);
+        if (null == o) {
+            o = ZONES.computeIfAbsent(zone, ZoneOffsets::new);
+        }
+        return o;
+    }
+
+    /**
+     * 一个时区的offset跳变表(秒)
+     */
+    private static final class ZoneOffsets {
+        private static final long MIN_SECOND = LocalDate.of(1900, 1, 1).toEpochDay() * SECONDS_PER_DAY;
+        private static final long MAX_SECOND = LocalDate.of(2100, 1, 1).toEpochDay() * SECONDS_PER_DAY;
+
+        private final ZoneId zone;
+        private final ZoneRules rules;
+        private final long[] instants;      // 跳变的时刻
+        private final long[] localStarts;   // 跳变开始的本地时间：instant + min(before, after)
+        private final int[] befores;
+        private final int[] afters;
+        private final int fixed;
+
+        ZoneOffsets(ZoneId zone) {
+            this.zone = zone;
+            this.rules = zone.getRules();
+            List<ZoneOffsetTransition> list = new ArrayList<>();
+            if (!rules.isFixedOffset()) {
+                ZoneOffsetTransition t = rules.nextTransition(Instant.ofEpochSecond(MIN_SECOND));
+                while (null != t && t.toEpochSecond() < MAX_SECOND) {
+                    list.add(t);
+                    t = rules.nextTransition(t.getInstant());
+                }
+            }
+            int n = list.size();
+            instants = new long[n];
+            localStarts = new long[n];
+            befores = new int[n];
+            afters = new int[n];
+            for (int i = 0; i < n; i++) {
+                ZoneOffsetTransition t = list.get(i);
+                instants[i] = t.toEpochSecond();
+                befores[i] = t.getOffsetBefore().getTotalSeconds();
+                afters[i] = t.getOffsetAfter().getTotalSeconds();
+                localStarts[i] = instants[i] + Math.min(befores[i], afters[i]);
+            }
+            fixed = n == 0 ? rules.getOffset(Instant.ofEpochSecond(MIN_SECOND)).getTotalSeconds() : 0;
+        }
+
+        int offsetOfInstant(long sec) {
+            if (instants.length == 0) {
+                return rules.isFixedOffset() ? fixed : rules.getOffset(Instant.ofEpochSecond(sec)).getTotalSeconds();
+            }
+            if (sec < MIN_SECOND || sec >= MAX_SECOND) {
+                return rules.getOffset(Instant.ofEpochSecond(sec)).getTotalSeconds();
+            }
+            int i = floor(instants, sec);
+            return i < 0 ? befores[0] : afters[i];
+        }
+
+        int offsetOfLocal(long local) {
+            if (instants.length == 0) {
+                return rules.isFixedOffset() ? fixed : offsetOfLocalByRules(local);
+            }
+            if (local < MIN_SECOND || local >= MAX_SECOND) {
+                return offsetOfLocalByRules(local);
+            }
+            int i = floor(localStarts, local);
+            if (i < 0) return befores[0];
+            // 间隙(夏令时开始)中的时间用跳变前的offset，即往后顺延；重叠区间取后一个offset
+            boolean inGap = afters[i] > befores[i] && local < instants[i] + afters[i];
+            return inGap ? befores[i] : afters[i];
+        }
+
+        private int offsetOfLocalByRules(long local) {
+            LocalDateTime ldt = LocalDateTime.ofEpochSecond(local, 0, ZoneOffset.UTC);
+            long instant = ZonedDateTime.ofLocal(ldt, zone, null).withLaterOffsetAtOverlap().toEpochSecond();
+            return (int) (local - instant);
+        }
+
+        // 最后一个 <= key 的下标，没有返回-1
+        private static int floor(long[] a, long key) {
+            int lo = 0, hi = a.length - 1;
+            while (lo <= hi) {
+                int mid = (lo + hi) >>> 1;
+                if (a[mid] <= key) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid - 1;
+                }
+            }
+            return hi;
+        }
+    }
+}
@@ -1,10 +1,8 @@
 package fengge.utils;
 
-import lombok.SneakyThrows;
-
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.Calendar;
 import java.util.Date;
@@ -20,24 +18,23 @@ public class DatetimeUtil {
     public final static String yyyy_MM_dd_HH_mm_ss = "yyyy-MM-dd HH:mm:ss";
     public final static String yyyy_MM_dd_HHmmss = "yyyy-MM-dd HHmmss";
     public final static String yyyyMMdd = "yyyyMMdd";
+    public final static String HHmmss = "HHmmss";
     // a day - ms
     public final static long A_DAY_MS = 1000 * 60 * 60 * 24;
 
     // 解析日期格式
-    @SneakyThrows
     public static Date parseDate(String ds, TimeZone zone) {
-        SimpleDateFormat sdf;
+        String pattern;
         if (ds.length() == 8) {
-            sdf = new SimpleDateFormat(yyyyMMdd);
+            pattern = yyyyMMdd;
         } else if (ds.length() == 10) {
-            sdf = new SimpleDateFormat(yyyy_MM_dd);
+            pattern = yyyy_MM_dd;
         } else if (ds.length() == 17) {
-            sdf = new SimpleDateFormat(yyyy_MM_dd_HHmmss);
+            pattern = yyyy_MM_dd_HHmmss;
         } else {
-            sdf = new SimpleDateFormat(yyyy_MM_dd_HH_mm_ss);
+            pattern = yyyy_MM_dd_HH_mm_ss;
         }
-        sdf.setTimeZone(zone);
-        return sdf.parse(ds);
+        return new Date(DateFormatters.parse(ds, pattern, zone));
     }
 
     public static Date parseDate(String ds) {
@@ -45,6 +42,18 @@ public class DatetimeUtil {
     }
 
 
+    /**
+     * now*方法改用CachedClock取时间，精度为tickMillis
+     * 适合打日志、审计等频繁取时间但不要求精确到毫秒的场景
+     */
+    public static void enableCachedClock(long tickMillis) {
+        CachedClock.start(tickMillis);
+    }
+
+    public static void disableCachedClock() {
+        CachedClock.stop();
+    }
+
     /**
      * 现在的日期
      *
@@ -52,16 +61,25 @@ public class DatetimeUtil {
      * @return
      */
     public static String nowStr(TimeZone zone) {
+        if (CachedClock.isRunning()) {
+            return CachedClock.day10(zone);
+        }
         Calendar cal = Calendar.getInstance(zone);
         return format(cal.getTime(), zone);
     }
 
     public static Date now() {
+        if (CachedClock.isRunning()) {
+            return new Date(CachedClock.currentTimeMillis());
+        }
         Calendar cal = Calendar.getInstance();      // zone好像没什么用
         return cal.getTime();
     }
 
     public static String now8s(TimeZone zone) {
+        if (CachedClock.isRunning()) {
+            return CachedClock.day8(zone);
+        }
         return format(new Date(), yyyyMMdd, zone);
     }
 
@@ -98,6 +116,9 @@ public class DatetimeUtil {
      * 20220101 转 2022-01-01
      */
     public static String dayStr8To10(int yyyyMMdd) {
+        if (yyyyMMdd >= 10000101 && yyyyMMdd <= 99991231) {
+            return DateNumCodec.toDayStr10(yyyyMMdd);
+        }
         String ds = String.valueOf(yyyyMMdd);
         return dayStr8To10(ds);
     }
@@ -125,11 +146,11 @@ public class DatetimeUtil {
     }
 
     public static String format(long timestamp, TimeZone zone) {
-        return format(new Date(timestamp), zone);
+        return format(timestamp, yyyy_MM_dd, zone);
     }
 
     public static String format(long timestamp, String pattern, TimeZone zone) {
-        return format(new Date(timestamp), pattern, zone);
+        return DateFormatters.format(timestamp, null == pattern ? yyyy_MM_dd : pattern, zone);
     }
 
     public static String format(Date date) {
@@ -145,11 +166,7 @@ public class DatetimeUtil {
      * @return
      */
     public static String format(Date date, String pattern, TimeZone zone) {
-        SimpleDateFormat df = null == pattern ? new SimpleDateFormat(yyyy_MM_dd) : new SimpleDateFormat(pattern);
-        if (null != zone) {
-            df.setTimeZone(zone);
-        }
-        return df.format(date);
+        return format(date.getTime(), pattern, zone);
     }
 
     public static String format(Date date, TimeZone zone) {
@@ -157,13 +174,9 @@ public class DatetimeUtil {
     }
 
     public static Date format(String dateStr, TimeZone zone) {
-        SimpleDateFormat df = new SimpleDateFormat(yyyy_MM_dd);
         try {
-            if (null != zone) {
-                df.setTimeZone(zone);
-            }
-            return df.parse(dateStr);
-        } catch (ParseException e) {
+            return new Date(DateFormatters.parse(dateStr, yyyy_MM_dd, zone));
+        } catch (DateTimeException e) {
             throw new RuntimeException("Date String[" + dateStr + "] is not right format: " + yyyy_MM_dd);
         }
     }
@@ -184,7 +197,7 @@ public class DatetimeUtil {
      * @return
      */
     public static int toNum8(LocalDateTime dateTime) {
-        return Integer.parseInt(dateTime.format(formatter4NumDay));
+        return DateNumCodec.toNum8(dateTime);
     }
 
     /**
@@ -195,14 +208,18 @@ public class DatetimeUtil {
      * @return
      */
     public static int toNum8(Date date, TimeZone zone) {
-        String ds = format(date, yyyyMMdd, zone);
-        return Integer.parseInt(ds);
+        return DateNumCodec.toNum8(date.getTime(), zone);
     }
 
     /**
      * 0点的值缺少小时
      */
     public static int toNumber(Date date, String pattern, TimeZone zone) {
+        if (yyyyMMdd.equals(pattern)) {
+            return DateNumCodec.toNum8(date.getTime(), zone);
+        } else if (HHmmss.equals(pattern)) {
+            return DateNumCodec.toTime6(date.getTime(), zone);
+        }
         String format = format(date, pattern, zone);
         return Integer.parseInt(format);
     }
@@ -223,18 +240,16 @@ public class DatetimeUtil {
     }
 
     public static boolean isWeekend(Date date) {
-        // 创建 Calendar 对象并设置为给定日期
-        Calendar calendar = Calendar.getInstance();
-        calendar.setTime(date);
-
-        // 获取给定日期的星期几
-        int dayOfWeek = calendar.get(Calendar.DAY_OF_WEEK);
+        // 按默认时区算出日期，再取星期几（周一为1，周日为7）
+        long localSeconds = DateNumCodec.localSeconds(date.getTime(), ZoneId.systemDefault());
+        return DateNumCodec.dayOfWeek(Math.floorDiv(localSeconds, DateNumCodec.SECONDS_PER_DAY)) >= 6;
+    }
 
-        // 判断是否是周六或周日（星期日为1，星期六为7）
-        return dayOfWeek == Calendar.SATURDAY || dayOfWeek == Calendar.SUNDAY;
+    public static boolean isWeekend(int yyyyMMdd) {
+        return DateNumCodec.dayOfWeek(DateNumCodec.toEpochDay(yyyyMMdd)) >= 6;
     }
 
-    // 日期偏移
+    // 日期偏移 - 自然日，按工作日/交易日偏移使用 BusinessCalendar
     public static Date addDays(String date, int amount) {
         return addDays(parseDate(date), amount);
     }
@@ -252,6 +267,10 @@ public class DatetimeUtil {
 
     // 时间转换
     public static long time2timestamp(int time, String yyyy_MM_dd, TimeZone zone) {
+        int day = DateNumCodec.parseNum8(yyyy_MM_dd);
+        if (day > 0 && yyyy_MM_dd.length() == 10 && time >= 0) {
+            return DateNumCodec.toTimestamp(day, time, zone);
+        }
         String timeStr = yyyy_MM_dd + (time < 100000 ? " 0" : " ") + time;
         Date date = parseDate(timeStr, zone);
         return date.getTime();
@@ -0,0 +1,73 @@
+package fengge.utils;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.Getter;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * ObjectMapper + 按Type缓存的JavaType/ObjectReader/ObjectWriter
+ * ObjectReader/ObjectWriter是不可变的，可以多线程共享，缓存后省去每次constructType和查找根序列化器的开销
+ * 修改了mapper的配置(如registerModule)之后需要调用clear()
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+public final class JacksonCodec {
+    // Type通常是固定的几个类，超过上限的不再缓存
+    private static final int MAX_CACHE_SIZE = 4096;
+
+    @Getter
+    private final ObjectMapper mapper;
+    private final ConcurrentHashMap<Type, JavaType> types = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Type, ObjectWriter> writers = new ConcurrentHashMap<>();
+    private volatile ObjectWriter writer;
+
+    public JacksonCodec(ObjectMapper mapper) {
+        this.mapper = mapper;
+        this.writer = mapper.writer();
+    }
+
+    public JavaType javaType(Type t) {
+        return get(types, t, mapper::constructType);
+    }
+
+    public ObjectReader reader(Type t) {
+        return get(readers, t, k -> mapper.readerFor(javaType(k)));
+    }
+
+    // 按声明的类型序列化，如 List<Order>
+    public ObjectWriter writer(Type t) {
+        return get(writers, t, k -> mapper.writerFor(javaType(k)));
+    }
+
+    // 按运行时的类型序列化
+    public ObjectWriter writer() {
+        return writer;
+    }
+
+    // 清空缓存 - mapper配置变化后调用
+    public void clear() {
+        types.clear();
+        readers.clear();
+        writers.clear();
+        writer = mapper.writer();
+    }
+
+    private static <V> V get(ConcurrentHashMap<Type, V> cache, Type key, Function<Type, V> factory) {
+        V v = cache.get(key);
+        if (null == v) {
+            v = factory.apply(key);
+            if (cache.size() < MAX_CACHE_SIZE) {
+                V old = cache.putIfAbsent(key, v);
+                if (null != old) v = old;
+            }
+        }
+        return v;
+    }
+}
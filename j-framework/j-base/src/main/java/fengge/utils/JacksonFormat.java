@@ -0,0 +1,115 @@
+package fengge.utils;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import lombok.SneakyThrows;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * 序列化格式 - 与JacksonUtil相同的配置(忽略未知属性、NON_DEFAULT)和用法，服务之间传输/缓存时可以换成二进制格式
+ * SMILE/CBOR 需要引入 jackson-dataformat-smile / jackson-dataformat-cbor (j-base中是optional依赖)，第一次使用时创建mapper
+ * eg:
+ * byte[] bytes = JacksonFormat.SMILE.toBytes(order);
+ * Order o = JacksonFormat.SMILE.toObject(bytes, Order.class);
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+public enum JacksonFormat {
+    JSON(null),
+    SMILE("com.fasterxml.jackson.dataformat.smile.SmileFactory"),
+    CBOR("com.fasterxml.jackson.dataformat.cbor.CBORFactory");
+
+    private final String factoryClass;
+    private volatile JacksonCodec codec;
+    private volatile JacksonCodec nonDefaultCodec;
+
+    JacksonFormat(String factoryClass) {
+        this.factoryClass = factoryClass;
+    }
+
+    public JacksonCodec getCodec() {
+        init();
+        return codec;
+    }
+
+    // 不序列化默认值
+    public JacksonCodec getNonDefaultCodec() {
+        init();
+        return nonDefaultCodec;
+    }
+
+    @SneakyThrows
+    public byte[] toBytes(Object src) {
+        return JacksonUtil.toBytes(getCodec(), src);
+    }
+
+    @SneakyThrows
+    public byte[] toNonDefaultBytes(Object src) {
+        return JacksonUtil.toBytes(getNonDefaultCodec(), src);
+    }
+
+    // 写完flush，不关闭out
+    @SneakyThrows
+    public void write(Object src, OutputStream out) {
+        JacksonUtil.write(getCodec(), src, out);
+    }
+
+    @SneakyThrows
+    public <T> T toObject(byte[] bytes, Type t) {
+        if (null == bytes || bytes.length == 0) return null;
+        return getCodec().reader(t).readValue(bytes);
+    }
+
+    @SneakyThrows
+    public <T> T toObject(byte[] bytes, Class<T> t) {
+        if (null == bytes || bytes.length == 0) return null;
+        return getCodec().reader(t).readValue(bytes);
+    }
+
+    @SneakyThrows
+    public <T> T toObject(byte[] bytes, int offset, int len, Type t) {
+        if (null == bytes || len == 0) return null;
+        return getCodec().reader(t).readValue(bytes, offset, len);
+    }
+
+    // 读完会关闭in
+    @SneakyThrows
+    public <T> T toObject(InputStream in, Type t) {
+        if (null == in) return null;
+        return getCodec().reader(t).readValue(in);
+    }
+
+    private void init() {
+        if (null != codec) return;
+        // 与enableBlackbird使用同一把锁，保证新建的mapper不会漏掉blackbird
+        synchronized (JacksonUtil.BLACKBIRD_LOCK) {
+            if (null != codec) return;
+            if (null == factoryClass) {
+                nonDefaultCodec = JacksonUtil.NON_DEFAULT_CODEC;
+                codec = JacksonUtil.codec;
+                return;
+            }
+            JsonFactory factory;
+            try {
+                factory = (JsonFactory) Class.forName(factoryClass).getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                throw new IllegalStateException(name() + " format is not available, add jackson-dataformat-"
+                        + name().toLowerCase() + " to the classpath", e);
+            }
+            nonDefaultCodec = new JacksonCodec(JacksonUtil.newMapper(factory.copy(), true));
+            codec = new JacksonCodec(JacksonUtil.newMapper(factory, false));
+        }
+    }
+
+    // 已经创建的二进制mapper也注册blackbird；由JacksonUtil.enableBlackbird在锁内调用
+    static void onBlackbirdEnabled() {
+        for (JacksonFormat f : values()) {
+            if (null != f.factoryClass && null != f.codec) {
+                JacksonUtil.registerBlackbird(f.codec);
+                JacksonUtil.registerBlackbird(f.nonDefaultCodec);
+            }
+        }
+    }
+}
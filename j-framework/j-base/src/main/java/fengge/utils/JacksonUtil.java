@@ -1,15 +1,28 @@
 package fengge.utils;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -35,40 +48,207 @@ import java.util.Map;
  **/
 @Slf4j
 public class JacksonUtil {
+    // 启动参数 -Dfengge.jackson.blackbird=true 开启 @see #enableBlackbird()
+    public static final String BLACKBIRD_PROPERTY = "fengge.jackson.blackbird";
+    private static final String BLACKBIRD_MODULE = "com.fasterxml.jackson.module.blackbird.BlackbirdModule";
+    // enableBlackbird与JacksonFormat创建mapper共用的锁；不用JacksonUtil.class，类初始化时也不加锁，
+    // 否则持有锁等待JacksonUtil初始化的线程与初始化中的线程会互相等待
+    static final Object BLACKBIRD_LOCK = new Object();
+    // 在创建mapper之前确定，启动参数开启时由newMapper直接注册
+    private static volatile boolean blackbird = Boolean.getBoolean(BLACKBIRD_PROPERTY) && isBlackbirdAvailable();
     // default
-    public static final ObjectMapper mapper = new ObjectMapper()
-            // 设置在反序列化时忽略在JSON字符串中存在，而在Java中不存在的属性
-            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    public static final ObjectMapper mapper = newMapper(new JsonFactory(), false);
     // setSerializationInclusion - 不序列化默认值
-    public static final ObjectMapper NON_DEFAULT_MAPPER = new ObjectMapper()
-            // 设置在反序列化时忽略在JSON字符串中存在，而在Java中不存在的属性
-            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
-            .setSerializationInclusion(JsonInclude.Include.NON_DEFAULT);
+    public static final ObjectMapper NON_DEFAULT_MAPPER = newMapper(new JsonFactory(), true);
+    // 按Type缓存的ObjectReader/ObjectWriter，修改mapper配置后需要clear()
+    public static final JacksonCodec codec = new JacksonCodec(mapper);
+    public static final JacksonCodec NON_DEFAULT_CODEC = new JacksonCodec(NON_DEFAULT_MAPPER);
+    // 数字延迟解析 @see #toLazyObject
+    public static final ObjectMapper LAZY_NUMBER_MAPPER = newMapper(new JsonFactory(), false)
+            .registerModule(new LazyNumberModule());
+    public static final JacksonCodec LAZY_NUMBER_CODEC = new JacksonCodec(LAZY_NUMBER_MAPPER);
 
     public final static String ArrayStart = "[";
     public final static String ArrayEnd = "]";
 
+    /**
+     * 两个mapper都改用Blackbird(LambdaMetafactory生成的访问器)读写属性，代替反射 - 高QPS接口序列化Response/Pagination时有明显收益
+     * 需要引入 jackson-module-blackbird(j-base中是optional依赖)；
+     * 需要在第一次序列化/反序列化之前调用，已经用过的类型会继续使用反射
+     *
+     * @return 是否已开启，classpath中没有blackbird时返回false
+     */
+    public static boolean enableBlackbird() {
+        synchronized (BLACKBIRD_LOCK) {
+            if (blackbird) return true;
+            if (!isBlackbirdAvailable()) return false;
+            blackbird = true;
+            registerBlackbird(codec);
+            registerBlackbird(NON_DEFAULT_CODEC);
+            registerBlackbird(LAZY_NUMBER_CODEC);
+            JacksonFormat.onBlackbirdEnabled();
+            return true;
+        }
+    }
+
+    private static boolean isBlackbirdAvailable() {
+        try {
+            Class.forName(BLACKBIRD_MODULE);
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            log.warn("jackson-module-blackbird is not available, keep using reflection", e);
+            return false;
+        }
+    }
+
+    public static boolean isBlackbirdEnabled() {
+        return blackbird;
+    }
+
+    /**
+     * 统一的mapper配置 - json和二进制格式(@see JacksonFormat)共用
+     */
+    static ObjectMapper newMapper(JsonFactory factory, boolean nonDefault) {
+        ObjectMapper m = new ObjectMapper(factory)
+                // 设置在反序列化时忽略在JSON字符串中存在，而在Java中不存在的属性
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        if (nonDefault) {
+            m.setSerializationInclusion(JsonInclude.Include.NON_DEFAULT);
+        }
+        if (blackbird) {
+            m.registerModule(newBlackbirdModule());
+        }
+        return m;
+    }
+
+    static void registerBlackbird(JacksonCodec c) {
+        c.getMapper().registerModule(newBlackbirdModule());
+        c.clear();
+    }
+
+    @SneakyThrows
+    private static Module newBlackbirdModule() {
+        return (Module) Class.forName(BLACKBIRD_MODULE).getDeclaredConstructor().newInstance();
+    }
+
     @SneakyThrows
     public static <T> T toObject(String json, Type t) {
         if (isBlank(json)) return null;
-        return mapper.readValue(json, mapper.constructType(t));
+        return codec.reader(t).readValue(json);
     }
 
     @SneakyThrows
     public static <T> T toObject(String json, Class<T> t) {
         if (isBlank(json)) return null;
-        return mapper.readValue(json, t);
+        return codec.reader(t).readValue(json);
     }
 
     @SneakyThrows
     public static String toJson(Object src) {
-        return mapper.writeValueAsString(src);
+        return toJson(codec, src);
+    }
+
+    // 不序列化默认值
+    @SneakyThrows
+    public static String toNonDefaultJson(Object src) {
+        return toJson(NON_DEFAULT_CODEC, src);
+    }
+
+    private static String toJson(JacksonCodec c, Object src) throws JsonProcessingException {
+        return writerOf(c, src).writeValueAsString(src);
+    }
+
+    /**
+     * byte[]/ByteBuffer/流 - 直接读写UTF-8字节，省去String与UTF-16之间的转换(http、kafka消息)
+     * 写入时使用线程内复用的缓冲
+     */
+    @SneakyThrows
+    public static byte[] toBytes(Object src) {
+        return toBytes(codec, src);
+    }
+
+    /**
+     * 不复制，返回的ByteBuffer直接引用线程内的缓冲：只在本线程下一次调用toByteBuffer/toBytes之前有效
+     * 适合马上写到socket/kafka的场景，需要保留时用 toBytes
+     */
+    @SneakyThrows
+    public static ByteBuffer toByteBuffer(Object src) {
+        ReusableByteOutput out = ReusableByteOutput.acquire();
+        try {
+            write(codec, src, out);
+            return out.asByteBuffer();
+        } finally {
+            out.release();
+        }
+    }
+
+    // 写完flush，不关闭out
+    @SneakyThrows
+    public static void toJson(Object src, OutputStream out) {
+        write(codec, src, out);
+    }
+
+    @SneakyThrows
+    public static <T> T toObject(byte[] json, Type t) {
+        if (null == json || json.length == 0) return null;
+        return codec.reader(t).readValue(json);
+    }
+
+    @SneakyThrows
+    public static <T> T toObject(byte[] json, Class<T> t) {
+        if (null == json || json.length == 0) return null;
+        return codec.reader(t).readValue(json);
+    }
+
+    @SneakyThrows
+    public static <T> T toObject(byte[] json, int offset, int len, Type t) {
+        if (null == json || len == 0) return null;
+        return codec.reader(t).readValue(json, offset, len);
+    }
+
+    // 读取[position, limit)，不改变json的position
+    @SneakyThrows
+    public static <T> T toObject(ByteBuffer json, Type t) {
+        if (null == json || !json.hasRemaining()) return null;
+        if (json.hasArray()) {
+            return codec.reader(t).readValue(json.array(), json.arrayOffset() + json.position(), json.remaining());
+        }
+        return codec.reader(t).readValue(new ByteBufferBackedInputStream(json.duplicate()));
+    }
+
+    // 读完会关闭in
+    @SneakyThrows
+    public static <T> T toObject(InputStream in, Type t) {
+        if (null == in) return null;
+        return codec.reader(t).readValue(in);
+    }
+
+    private static ObjectWriter writerOf(JacksonCodec c, Object src) {
+        return null == src ? c.writer() : c.writer(src.getClass());
+    }
+
+    static byte[] toBytes(JacksonCodec c, Object src) throws IOException {
+        ReusableByteOutput out = ReusableByteOutput.acquire();
+        try {
+            write(c, src, out);
+            return out.toByteArray();
+        } finally {
+            out.release();
+        }
+    }
+
+    static void write(JacksonCodec c, Object src, OutputStream out) throws IOException {
+        ObjectWriter writer = writerOf(c, src);
+        try (JsonGenerator g = writer.createGenerator(out)) {
+            g.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            writer.writeValue(g, src);
+        }
     }
 
     // 类转换
     public static <T> T convert(Object obj, Type t) {
         if (null == obj) return null;
-        return mapper.convertValue(obj, mapper.constructType(t));
+        return mapper.convertValue(obj, codec.javaType(t));
     }
 
     public static Map toMap(Object obj) {
@@ -88,6 +268,64 @@ public class JacksonUtil {
         return toObject(jsonArray, tr.getType());
     }
 
+    /**
+     * 流式读取大的json数组(几百MB的导出文件)，每次只反序列化一个元素
+     * 用法参考 @see JsonArrayReader
+     */
+    @SneakyThrows
+    public static <T> JsonArrayReader<T> readArray(InputStream in, Type t) {
+        ObjectReader reader = codec.reader(t);
+        return new JsonArrayReader<>(reader.createParser(in), reader);
+    }
+
+    @SneakyThrows
+    public static <T> JsonArrayReader<T> readArray(Reader in, Type t) {
+        ObjectReader reader = codec.reader(t);
+        return new JsonArrayReader<>(reader.createParser(in), reader);
+    }
+
+    @SneakyThrows
+    public static <T> JsonArrayReader<T> readArray(Path file, Type t) {
+        InputStream in = Files.newInputStream(file);
+        try {
+            return readArray(in, t);
+        } catch (Throwable e) {
+            // 创建失败(如开头不是数组)时reader没有返回给调用方，由这里关闭文件
+            closeOnError(in, e);
+            throw e;
+        }
+    }
+
+    /**
+     * 并行读取NDJSON(每行一个json)大文件，用法参考 @see NdjsonReader
+     */
+    public static <T> NdjsonReader<T> readNdjson(Path file, Type t) {
+        return readNdjson(file, t, NdjsonReader.Options.defaults());
+    }
+
+    @SneakyThrows
+    public static <T> NdjsonReader<T> readNdjson(Path file, Type t, NdjsonReader.Options options) {
+        InputStream in = Files.newInputStream(file);
+        try {
+            return readNdjson(in, t, options);
+        } catch (Throwable e) {
+            closeOnError(in, e);
+            throw e;
+        }
+    }
+
+    private static void closeOnError(InputStream in, Throwable e) {
+        try {
+            in.close();
+        } catch (IOException ce) {
+            e.addSuppressed(ce);
+        }
+    }
+
+    public static <T> NdjsonReader<T> readNdjson(InputStream in, Type t, NdjsonReader.Options options) {
+        return new NdjsonReader<>(in, codec.reader(t), options);
+    }
+
     /**
      * 有些场景需要解析JsonNode。JsonNode的用法参考：
      * JsonNode jsonNode = objectMapper.readTree(jsonString);
@@ -100,43 +338,79 @@ public class JacksonUtil {
         return mapper.readTree(json);
     }
 
+    /**
+     * 数字不立即解析，保持原文(Map/List中为LazilyParsedNumber，JsonNode中为LazyNumberNode)，第一次取值时才解析
+     * 数字很多但只读取少量字段时使用，如行情数据
+     *
+     * @param t Map、List、Object、JsonNode 或者包含这些类型字段的类
+     */
+    @SneakyThrows
+    public static <T> T toLazyObject(String json, Type t) {
+        if (isBlank(json)) return null;
+        return LAZY_NUMBER_CODEC.reader(t).readValue(json);
+    }
+
+    @SneakyThrows
+    public static <T> T toLazyObject(byte[] json, Type t) {
+        if (null == json || json.length == 0) return null;
+        return LAZY_NUMBER_CODEC.reader(t).readValue(json);
+    }
+
+    public static JsonNode getLazyJsonNode(String json) {
+        return toLazyObject(json, JsonNode.class);
+    }
+
+    // 路径语法参考 @see JsonPath，如 data.list[3].name
     public static JsonNode getJsonNode(final JsonNode root, String node) {
         if (null == root) return null;
         if (isBlank(node)) return root;
         try {
-            JsonNode current = root;
-            String[] trees = node.split("\\.");
-            for (String t : trees) {
-                if (t.contains(ArrayStart) && t.contains(ArrayEnd)) {
-                    int st = t.indexOf(ArrayStart);
-                    int end = t.indexOf(ArrayEnd, st);
-                    String name = t.substring(0, st);
-                    int index = Integer.parseInt(t.substring(st + 1, end));
-                    current = current.get(name).get(index);
-                } else {
-                    current = current.get(t);
-                }
-            }
-            return current;
+            return JsonPath.compile(node).eval(root);
         } catch (Exception e) {
             log.warn("get sub node failed: node=" + node, e);
         }
         return null;
     }
 
+    /**
+     * 直接从json原文中取一个路径的值，不构建整个JsonNode树 - 大消息中只取少量字段时使用
+     * 多个路径 @see JsonPathExtractor
+     *
+     * @param path 如 body.items[3].sku
+     */
+    public static <T> T extract(String json, String path, Type type) {
+        if (isBlank(json)) return null;
+        @SuppressWarnings("unchecked")
+        T value = (T) JsonPathExtractor.of(path, type).extract(json)[0];
+        return value;
+    }
+
+    public static <T> T extract(byte[] json, String path, Type type) {
+        if (null == json || json.length == 0) return null;
+        @SuppressWarnings("unchecked")
+        T value = (T) JsonPathExtractor.of(path, type).extract(json)[0];
+        return value;
+    }
+
+    // 一次扫描取多个路径的值：路径 -> 值
+    public static Map<String, Object> extract(String json, Map<String, ? extends Type> pathTypes) {
+        if (isBlank(json)) return null;
+        return JsonPathExtractor.of(pathTypes).extractAsMap(json);
+    }
+
     @SneakyThrows
     // jsonNode to Object
     public static Object parse(final JsonNode jsonNode, final Type type) {
         if (null == jsonNode) return null;
-        JavaType javaType = mapper.constructType(type);
+        ObjectReader reader = codec.reader(type);
         if (jsonNode.isArray()) {
             List<Object> ret = new LinkedList<>();
             for (JsonNode childNode : jsonNode) {
-                ret.add(mapper.readValue(childNode.traverse(), javaType));
+                ret.add(reader.readValue(childNode));
             }
             return ret;
         } else {
-            return mapper.readValue(jsonNode.traverse(), javaType);
+            return reader.readValue(jsonNode);
         }
     }
 
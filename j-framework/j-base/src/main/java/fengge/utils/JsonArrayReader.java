@@ -0,0 +1,122 @@
+package fengge.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.SneakyThrows;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 流式读取json数组 - 每次只反序列化一个元素，内存占用与数组大小无关
+ * 用完需要close(读完最后一个元素时会自动close)
+ * eg:
+ * try (JsonArrayReader<Order> reader = JacksonUtil.readArray(path, Order.class)) {
+ * reader.forEachBatch(1000, batch -> dao.insert(batch));
+ * }
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+public final class JsonArrayReader<T> implements Iterator<T>, Closeable {
+    private final JsonParser parser;
+    private final ObjectReader reader;
+    private boolean ready;      // parser已经指向下一个元素的开始
+    private boolean done;
+
+    @SneakyThrows
+    JsonArrayReader(JsonParser parser, ObjectReader reader) {
+        this.parser = parser;
+        this.reader = reader;
+        JsonToken t = parser.nextToken();
+        if (null == t) {        // 空内容
+            close();
+        } else if (t != JsonToken.START_ARRAY) {
+            close();
+            throw new IllegalArgumentException("json is not an array, start with: " + t);
+        }
+    }
+
+    @Override
+    @SneakyThrows
+    public boolean hasNext() {
+        if (done) return false;
+        if (!ready) {
+            JsonToken t = parser.nextToken();
+            if (null == t || t == JsonToken.END_ARRAY) {
+                close();
+                return false;
+            }
+            ready = true;
+        }
+        return true;
+    }
+
+    @Override
+    @SneakyThrows
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        ready = false;
+        return reader.readValue(parser);
+    }
+
+    // 逐个处理，返回处理的数量
+    public long forEach(Consumer<? super T> action) {
+        long n = 0;
+        while (hasNext()) {
+            action.accept(next());
+            n++;
+        }
+        return n;
+    }
+
+    /**
+     * 按固定大小分批处理，最后一批可能不满；每批是新的List，可以在action中保留
+     *
+     * @return 处理的元素数量
+     */
+    public long forEachBatch(int batchSize, Consumer<List<T>> action) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        long n = 0;
+        List<T> batch = new ArrayList<>(batchSize);
+        while (hasNext()) {
+            batch.add(next());
+            n++;
+            if (batch.size() == batchSize) {
+                action.accept(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            action.accept(batch);
+        }
+        return n;
+    }
+
+    // 顺序流，关闭stream时关闭reader
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+                .onClose(this::close);
+    }
+
+    @Override
+    @SneakyThrows
+    public void close() {
+        if (!done) {
+            done = true;
+            parser.close();
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package fengge.utils;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 预编译的json路径 - 路径只解析一次，查找时不创建对象
+ * 语法：属性名用.分隔，数组下标用[n]，如 data.list[3].name、[0].id、matrix[1][2]
+ * compile 的结果按路径字符串缓存
+ * eg:
+ * JsonNode name = JsonPath.compile("data.list[3].name").eval(root);
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+public final class JsonPath {
+    // 路径通常是常量，超过上限的不再缓存
+    private static final int MAX_CACHE_SIZE = 1024;
+    private static final ConcurrentHashMap<String, JsonPath> CACHE = new ConcurrentHashMap<>();
+
+    private final String expression;
+    private final String[] names;   // 属性名，数组下标的那一步为null
+    private final int[] indexes;    // 数组下标，属性名的那一步为-1
+
+    private JsonPath(String expression, String[] names, int[] indexes) {
+        this.expression = expression;
+        this.names = names;
+        this.indexes = indexes;
+    }
+
+    /**
+     * 编译路径(带缓存)
+     *
+     * @throws IllegalArgumentException 路径格式不对
+     */
+    public static JsonPath compile(String expression) {
+        JsonPath path = CACHE.get(expression);
+        if (null == path) {
+            path = parse(expression);
+            if (CACHE.size() < MAX_CACHE_SIZE) {
+                CACHE.putIfAbsent(expression, path);
+            }
+        }
+        return path;
+    }
+
+    /**
+     * 查找子节点，路径上任意一级不存在都返回null
+     */
+    public JsonNode eval(JsonNode root) {
+        return eval(root, 0);
+    }
+
+    // 从第from级开始查找
+    public JsonNode eval(JsonNode node, int from) {
+        JsonNode current = node;
+        for (int i = from; i < names.length && null != current; i++) {
+            current = null != names[i] ? current.get(names[i]) : current.get(indexes[i]);
+        }
+        return current;
+    }
+
+    // 路径的级数
+    public int size() {
+        return names.length;
+    }
+
+    // 第i级的属性名，数组下标返回null
+    public String name(int i) {
+        return names[i];
+    }
+
+    // 第i级的数组下标，属性名返回-1
+    public int index(int i) {
+        return indexes[i];
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    private static JsonPath parse(String expression) {
+        List<String> names = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        int len = expression.length();
+        int i = 0;
+        while (i < len) {
+            char c = expression.charAt(i);
+            if (c == '.') {
+                i++;
+            } else if (c == '[') {
+                int end = expression.indexOf(']', i);
+                if (end < 0) {
+                    throw new IllegalArgumentException("json path[" + expression + "] missing ']' at " + i);
+                }
+                int index = 0;
+                for (int k = i + 1; k < end; k++) {
+                    char d = expression.charAt(k);
+                    if (d < '0' || d > '9' || index > (Integer.MAX_VALUE - 9) / 10) {
+                        throw new IllegalArgumentException("json path[" + expression + "] bad index at " + k);
+                    }
+                    index = index * 10 + (d - '0');
+                }
+                if (end == i + 1) {
+                    throw new IllegalArgumentException("json path[" + expression + "] empty index at " + i);
+                }
+                names.add(null);
+                indexes.add(index);
+                i = end + 1;
+            } else {
+                int end = i;
+                while (end < len && expression.charAt(end) != '.' && expression.charAt(end) != '[') end++;
+                names.add(expression.substring(i, end));
+                indexes.add(-1);
+                i = end;
+            }
+        }
+        int[] idx = new int[indexes.size()];
+        for (int k = 0; k < idx.length; k++) {
+            idx[k] = indexes.get(k);
+        }
+        return new JsonPath(expression, names.toArray(new String[0]), idx);
+    }
+}
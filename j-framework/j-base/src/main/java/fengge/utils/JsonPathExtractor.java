@@ -0,0 +1,208 @@
+package fengge.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.SneakyThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 从json原文中直接取出几个路径的值 - 不构建JsonNode树
+ * 用JsonParser顺序扫描，不在路径上的子树直接跳过，只反序列化命中的值；多个路径一次扫描完成，全部找到后提前结束
+ * 创建后不可变，可以多线程共享；最多64个路径
+ * eg:
+ * JsonPathExtractor ex = JsonPathExtractor.of(new String[]{"head.type", "body.items[0].sku"}, new Type[]{String.class, String.class});
+ * Object[] values = ex.extract(bytes);
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+public final class JsonPathExtractor {
+    private static final int MAX_PATHS = 64;
+
+    private final JsonPath[] paths;
+    private final ObjectReader[] readers;
+    private final long rootMask;
+
+    private JsonPathExtractor(JsonPath[] paths, ObjectReader[] readers) {
+        this.paths = paths;
+        this.readers = readers;
+        this.rootMask = paths.length == MAX_PATHS ? -1L : (1L << paths.length) - 1;
+    }
+
+    public static JsonPathExtractor of(String path, Type type) {
+        return of(new String[]{path}, new Type[]{type});
+    }
+
+    /**
+     * @param paths 路径语法参考 @see JsonPath
+     * @param types 每个路径的值类型
+     */
+    public static JsonPathExtractor of(String[] paths, Type[] types) {
+        if (paths.length != types.length) {
+            throw new IllegalArgumentException("paths and types must have the same length");
+        }
+        if (paths.length > MAX_PATHS) {
+            throw new IllegalArgumentException("too many paths: " + paths.length + " > " + MAX_PATHS);
+        }
+        JsonPath[] compiled = new JsonPath[paths.length];
+        ObjectReader[] readers = new ObjectReader[paths.length];
+        for (int i = 0; i < paths.length; i++) {
+            compiled[i] = JsonPath.compile(paths[i]);
+            readers[i] = JacksonUtil.codec.reader(types[i]);
+        }
+        return new JsonPathExtractor(compiled, readers);
+    }
+
+    public static JsonPathExtractor of(Map<String, ? extends Type> pathTypes) {
+        return of(pathTypes.keySet().toArray(new String[0]), pathTypes.values().toArray(new Type[0]));
+    }
+
+    /**
+     * @return 与paths顺序一致的值，没找到的为null
+     */
+    @SneakyThrows
+    public Object[] extract(byte[] json) {
+        try (JsonParser p = JacksonUtil.mapper.createParser(json)) {
+            return extract(p);
+        }
+    }
+
+    @SneakyThrows
+    public Object[] extract(String json) {
+        try (JsonParser p = JacksonUtil.mapper.createParser(json)) {
+            return extract(p);
+        }
+    }
+
+    @SneakyThrows
+    public Object[] extract(InputStream json) {
+        try (JsonParser p = JacksonUtil.mapper.createParser(json)) {
+            return extract(p);
+        }
+    }
+
+    // 路径 -> 值
+    public Map<String, Object> extractAsMap(byte[] json) {
+        return toMap(extract(json));
+    }
+
+    public Map<String, Object> extractAsMap(String json) {
+        return toMap(extract(json));
+    }
+
+    public Object[] extract(JsonParser p) throws IOException {
+        Scan scan = new Scan(paths.length);
+        if (paths.length > 0 && null != p.nextToken()) {
+            walk(p, 0, rootMask, scan);
+        }
+        return scan.values;
+    }
+
+    /**
+     * 当前token是第depth级的值，mask是到这一级仍然匹配的路径
+     */
+    private void walk(JsonParser p, int depth, long mask, Scan scan) throws IOException {
+        long ending = 0;
+        for (long m = mask; m != 0; m &= m - 1) {
+            int i = Long.numberOfTrailingZeros(m);
+            if (paths[i].size() == depth) ending |= 1L << i;
+        }
+        if (ending != 0) {
+            bind(p, depth, mask, ending, scan);
+            return;
+        }
+        JsonToken t = p.currentToken();
+        if (t == JsonToken.START_OBJECT) {
+            String name;
+            while (null != (name = p.nextFieldName())) {
+                long sub = 0;
+                for (long m = mask; m != 0; m &= m - 1) {
+                    int i = Long.numberOfTrailingZeros(m);
+                    if (name.equals(paths[i].name(depth))) sub |= 1L << i;
+                }
+                p.nextToken();
+                if (sub == 0) {
+                    p.skipChildren();
+                } else {
+                    walk(p, depth + 1, sub, scan);
+                    if (scan.remaining == 0) return;
+                }
+            }
+        } else if (t == JsonToken.START_ARRAY) {
+            int max = -1;   // 需要的最大下标，超过后跳过剩余元素
+            for (long m = mask; m != 0; m &= m - 1) {
+                max = Math.max(max, paths[Long.numberOfTrailingZeros(m)].index(depth));
+            }
+            int index = 0;
+            while (p.nextToken() != JsonToken.END_ARRAY) {
+                long sub = 0;
+                if (index <= max) {
+                    for (long m = mask; m != 0; m &= m - 1) {
+                        int i = Long.numberOfTrailingZeros(m);
+                        if (paths[i].index(depth) == index) sub |= 1L << i;
+                    }
+                }
+                if (sub == 0) {
+                    p.skipChildren();
+                } else {
+                    walk(p, depth + 1, sub, scan);
+                    if (scan.remaining == 0) return;
+                }
+                index++;
+            }
+        }
+        // 标量值：路径还没走完，没有命中
+    }
+
+    // 有路径在这一级结束
+    private void bind(JsonParser p, int depth, long mask, long ending, Scan scan) throws IOException {
+        if (mask == ending && Long.bitCount(ending) == 1) {    // 常见情况：直接绑定
+            int i = Long.numberOfTrailingZeros(ending);
+            scan.set(i, readers[i].readValue(p));
+            return;
+        }
+        // 同一个值被多个路径使用(或者有更深的路径)，先读成树再分别绑定
+        JsonNode node = JacksonUtil.mapper.readTree(p);
+        for (long m = mask; m != 0; m &= m - 1) {
+            int i = Long.numberOfTrailingZeros(m);
+            JsonNode v = (ending & (1L << i)) != 0 ? node : paths[i].eval(node, depth);
+            if (null != v) {
+                scan.set(i, readers[i].readValue(v));
+            }
+        }
+    }
+
+    private Map<String, Object> toMap(Object[] values) {
+        Map<String, Object> ret = new LinkedHashMap<>();
+        for (int i = 0; i < paths.length; i++) {
+            ret.put(paths[i].getExpression(), values[i]);
+        }
+        return ret;
+    }
+
+    // 一次扫描的结果
+    private static final class Scan {
+        final Object[] values;
+        int remaining;
+        long found;     // json中有重复的key时只计一次
+
+        Scan(int n) {
+            this.values = new Object[n];
+            this.remaining = n;
+        }
+
+        void set(int i, Object v) {
+            values[i] = v;
+            if ((found & (1L << i)) == 0) {
+                found |= 1L << i;
+                remaining--;
+            }
+        }
+    }
+}
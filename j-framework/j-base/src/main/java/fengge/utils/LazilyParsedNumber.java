@@ -5,11 +5,22 @@ import java.math.BigDecimal;
 
 /**
  * This class holds a number value that is lazily converted to a specific number type
+ * <p>
+ * 第一次取值时解析并缓存long/double，之后直接返回；常见格式用NumberParser解析，不创建BigDecimal
+ * 不可变，可以多线程共享(并发时最多重复解析一次，结果相同)
  *
  * @author Inderjeet Singh
  */
 public final class LazilyParsedNumber extends Number {
+    private static final long serialVersionUID = 1L;
+    private static final int LONG_READY = 1;
+    private static final int DOUBLE_READY = 2;
+
     private final String value;
+    // 缓存的解析结果：先写值，再写flags(volatile)，读到flags后值一定可见；不参与序列化，只序列化文本
+    private transient volatile int flags;
+    private transient long longValue;
+    private transient double doubleValue;
 
     /**
      * @param value must not be null
@@ -20,12 +31,19 @@ public final class LazilyParsedNumber extends Number {
 
     @Override
     public int intValue() {
-        return new BigDecimal(value).intValue();
+        // 与BigDecimal.intValue一致：long的低32位
+        return (int) longValue();
     }
 
     @Override
     public long longValue() {
-        return new BigDecimal(value).longValue();
+        if ((flags & LONG_READY) == 0) {
+            long v = NumberParser.parseLong(value, Long.MIN_VALUE);
+            // 不是普通整数(或者正好是Long.MIN_VALUE)时按原来的方式：小数截断、超出范围取低64位
+            longValue = v != Long.MIN_VALUE ? v : new BigDecimal(value).longValue();
+            flags |= LONG_READY;
+        }
+        return longValue;
     }
 
     @Override
@@ -35,7 +53,13 @@ public final class LazilyParsedNumber extends Number {
 
     @Override
     public double doubleValue() {
-        return Double.parseDouble(value);
+        if ((flags & DOUBLE_READY) == 0) {
+            double v = NumberParser.parseDouble(value, Double.NaN);
+            // 前后空格、NaN、Infinity等交给Double.parseDouble
+            doubleValue = v == v ? v : Double.parseDouble(value);
+            flags |= DOUBLE_READY;
+        }
+        return doubleValue;
     }
 
     @Override
@@ -73,4 +97,4 @@ public final class LazilyParsedNumber extends Number {
         }
         return false;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,141 @@
+package fengge.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.JsonTokenId;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 延迟解析数字 - 反序列化为Map/List/Object/JsonNode时，数字只保存原文，第一次取值时才解析
+ * Map/List中的数字为 LazilyParsedNumber，JsonNode中为 LazyNumberNode
+ * 对象/数组与默认一致：LinkedHashMap、ArrayList、ObjectNode、ArrayNode
+ * 使用 @see JacksonUtil#toLazyObject，或者注册到自己的ObjectMapper
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+public final class LazyNumberModule extends SimpleModule {
+    private static final long serialVersionUID = 1L;
+
+    public LazyNumberModule() {
+        super("LazyNumberModule");
+        addDeserializer(Object.class, new UntypedDeserializer());
+        addDeserializer(JsonNode.class, new TreeDeserializer());
+    }
+
+    // Object/Map/List 的值
+    static final class UntypedDeserializer extends StdDeserializer<Object> {
+        private static final long serialVersionUID = 1L;
+
+        UntypedDeserializer() {
+            super(Object.class);
+        }
+
+        @Override
+        public Object deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            switch (p.currentTokenId()) {
+                case JsonTokenId.ID_START_OBJECT:
+                case JsonTokenId.ID_FIELD_NAME:
+                    return readObject(p, ctxt);
+                case JsonTokenId.ID_START_ARRAY:
+                    List<Object> list = new ArrayList<>();
+                    while (p.nextToken() != JsonToken.END_ARRAY) {
+                        list.add(deserialize(p, ctxt));
+                    }
+                    return list;
+                case JsonTokenId.ID_STRING:
+                    return p.getText();
+                case JsonTokenId.ID_NUMBER_INT:
+                case JsonTokenId.ID_NUMBER_FLOAT:
+                    return new LazilyParsedNumber(p.getText());
+                case JsonTokenId.ID_TRUE:
+                    return Boolean.TRUE;
+                case JsonTokenId.ID_FALSE:
+                    return Boolean.FALSE;
+                case JsonTokenId.ID_NULL:
+                    return null;
+                case JsonTokenId.ID_EMBEDDED_OBJECT:
+                    return p.getEmbeddedObject();
+                default:
+                    return ctxt.handleUnexpectedToken(Object.class, p);
+            }
+        }
+
+        private Map<String, Object> readObject(JsonParser p, DeserializationContext ctxt) throws IOException {
+            Map<String, Object> map = new LinkedHashMap<>();
+            String name = p.hasToken(JsonToken.FIELD_NAME) ? p.currentName() : p.nextFieldName();
+            for (; null != name; name = p.nextFieldName()) {
+                p.nextToken();
+                map.put(name, deserialize(p, ctxt));
+            }
+            return map;
+        }
+    }
+
+    // JsonNode树
+    static final class TreeDeserializer extends StdDeserializer<JsonNode> {
+        private static final long serialVersionUID = 1L;
+
+        TreeDeserializer() {
+            super(JsonNode.class);
+        }
+
+        @Override
+        public JsonNode deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            return read(p, ctxt, ctxt.getNodeFactory());
+        }
+
+        @Override
+        public JsonNode getNullValue(DeserializationContext ctxt) {
+            return NullNode.getInstance();
+        }
+
+        private JsonNode read(JsonParser p, DeserializationContext ctxt, JsonNodeFactory f) throws IOException {
+            switch (p.currentTokenId()) {
+                case JsonTokenId.ID_START_OBJECT:
+                case JsonTokenId.ID_FIELD_NAME:
+                    ObjectNode object = f.objectNode();
+                    String name = p.hasToken(JsonToken.FIELD_NAME) ? p.currentName() : p.nextFieldName();
+                    for (; null != name; name = p.nextFieldName()) {
+                        p.nextToken();
+                        object.set(name, read(p, ctxt, f));
+                    }
+                    return object;
+                case JsonTokenId.ID_START_ARRAY:
+                    ArrayNode array = f.arrayNode();
+                    while (p.nextToken() != JsonToken.END_ARRAY) {
+                        array.add(read(p, ctxt, f));
+                    }
+                    return array;
+                case JsonTokenId.ID_STRING:
+                    return f.textNode(p.getText());
+                case JsonTokenId.ID_NUMBER_INT:
+                    return new LazyNumberNode(p.getText(), true);
+                case JsonTokenId.ID_NUMBER_FLOAT:
+                    return new LazyNumberNode(p.getText(), false);
+                case JsonTokenId.ID_TRUE:
+                    return f.booleanNode(true);
+                case JsonTokenId.ID_FALSE:
+                    return f.booleanNode(false);
+                case JsonTokenId.ID_NULL:
+                    return f.nullNode();
+                case JsonTokenId.ID_EMBEDDED_OBJECT:
+                    return f.pojoNode(p.getEmbeddedObject());
+                default:
+                    return (JsonNode) ctxt.handleUnexpectedToken(JsonNode.class, p);
+            }
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package fengge.utils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.node.NumericNode;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * 数字节点 - 保存原文，第一次取值时才解析 @see LazyNumberModule
+ * 序列化时原样输出，不会丢失精度
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+public final class LazyNumberNode extends NumericNode {
+    private static final long serialVersionUID = 1L;
+    private final LazilyParsedNumber value;
+    private final boolean integral;     // json中是否是整数(没有小数点和指数)
+
+    public LazyNumberNode(String text, boolean integral) {
+        this.value = new LazilyParsedNumber(text);
+        this.integral = integral;
+    }
+
+    @Override
+    public JsonToken asToken() {
+        return integral ? JsonToken.VALUE_NUMBER_INT : JsonToken.VALUE_NUMBER_FLOAT;
+    }
+
+    // 与默认的树一致：整数按大小为INT/LONG/BIG_INTEGER，小数为DOUBLE
+    @Override
+    public JsonParser.NumberType numberType() {
+        if (!integral) return JsonParser.NumberType.DOUBLE;
+        String text = value.toString();
+        int digits = text.length() - (text.charAt(0) == '-' ? 1 : 0);
+        if (digits < 10) return JsonParser.NumberType.INT;
+        if (digits < 19) {
+            long v = value.longValue();
+            return v == (int) v ? JsonParser.NumberType.INT : JsonParser.NumberType.LONG;
+        }
+        return bigIntegerValue().bitLength() < 64 ? JsonParser.NumberType.LONG : JsonParser.NumberType.BIG_INTEGER;
+    }
+
+    @Override
+    public boolean isIntegralNumber() {
+        return integral;
+    }
+
+    @Override
+    public boolean isFloatingPointNumber() {
+        return !integral;
+    }
+
+    @Override
+    public boolean isInt() {
+        return numberType() == JsonParser.NumberType.INT;
+    }
+
+    @Override
+    public boolean isLong() {
+        return numberType() == JsonParser.NumberType.LONG;
+    }
+
+    @Override
+    public boolean isBigInteger() {
+        return numberType() == JsonParser.NumberType.BIG_INTEGER;
+    }
+
+    @Override
+    public boolean isDouble() {
+        return !integral;
+    }
+
+    @Override
+    public Number numberValue() {
+        return value;
+    }
+
+    @Override
+    public int intValue() {
+        return value.intValue();
+    }
+
+    @Override
+    public long longValue() {
+        return value.longValue();
+    }
+
+    @Override
+    public float floatValue() {
+        return value.floatValue();
+    }
+
+    @Override
+    public double doubleValue() {
+        return value.doubleValue();
+    }
+
+    @Override
+    public BigDecimal decimalValue() {
+        return new BigDecimal(value.toString());
+    }
+
+    @Override
+    public BigInteger bigIntegerValue() {
+        return decimalValue().toBigInteger();
+    }
+
+    @Override
+    public boolean canConvertToInt() {
+        if (integral) return isInt();
+        double d = doubleValue();
+        return d >= Integer.MIN_VALUE && d <= Integer.MAX_VALUE;
+    }
+
+    @Override
+    public boolean canConvertToLong() {
+        if (integral) return numberType() != JsonParser.NumberType.BIG_INTEGER;
+        double d = doubleValue();
+        return d >= Long.MIN_VALUE && d <= Long.MAX_VALUE;
+    }
+
+    @Override
+    public boolean isNaN() {
+        return false;
+    }
+
+    @Override
+    public String asText() {
+        return value.toString();
+    }
+
+    @Override
+    public void serialize(JsonGenerator g, SerializerProvider provider) throws IOException {
+        g.writeNumber(value.toString());
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) return true;
+        return o instanceof LazyNumberNode && value.equals(((LazyNumberNode) o).value);
+    }
+}
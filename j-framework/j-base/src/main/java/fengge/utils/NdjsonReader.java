@@ -0,0 +1,259 @@
+package fengge.utils;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.SneakyThrows;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 并行读取NDJSON(每行一个json)大文件
+ * 按块读取文件，在换行处切分，每块在executor中并行反序列化；
+ * 同时在解析中的块最多 maxInFlight 个(背压)，消费跟不上时不再继续读文件
+ * 用完需要close(读完最后一个元素时会自动close)
+ * eg:
+ * try (NdjsonReader<Order> reader = JacksonUtil.readNdjson(path, Order.class)) {
+ * reader.forEachBatch(1000, batch -> dao.insert(batch));
+ * }
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+public final class NdjsonReader<T> implements Iterator<T>, Closeable {
+    private final InputStream in;
+    private final ObjectReader reader;
+    private final Options options;
+    private final ArrayDeque<CompletableFuture<List<T>>> pending = new ArrayDeque<>();      // ordered: 按提交顺序
+    private final BlockingQueue<CompletableFuture<List<T>>> completed = new LinkedBlockingQueue<>(); // unordered: 按完成顺序
+    private int inFlight;
+    private Iterator<T> current = Collections.emptyIterator();
+    // 读文件的状态
+    private byte[] carry = new byte[0];     // 上一块末尾不完整的行
+    private long offset;                    // 下一块在文件中的偏移
+    private boolean eof;
+    private boolean done;
+
+    NdjsonReader(InputStream in, ObjectReader reader, Options options) {
+        if (options.getChunkSize() <= 0 || options.getMaxInFlight() <= 0) {
+            throw new IllegalArgumentException("chunkSize and maxInFlight must be positive");
+        }
+        this.in = in;
+        this.reader = reader;
+        this.options = options;
+    }
+
+    /**
+     * 配置
+     */
+    @Getter
+    @Builder
+    public static class Options {
+        // 解析用的线程池，null使用CompletableFuture默认的线程池
+        private final Executor executor;
+        // 每块的字节数
+        @Builder.Default
+        private final int chunkSize = 1 << 20;
+        // 同时在解析(或者已解析还没被消费)的块数
+        @Builder.Default
+        private final int maxInFlight = Math.max(2, Runtime.getRuntime().availableProcessors() * 2);
+        // false：哪一块先解析完先返回，块内仍然有序
+        @Builder.Default
+        private final boolean ordered = true;
+
+        public static Options defaults() {
+            return Options.builder().build();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (done) return false;
+            List<T> chunk = nextChunk();
+            if (null == chunk) {
+                close();
+                return false;
+            }
+            current = chunk.iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    // 逐个处理，返回处理的数量
+    public long forEach(Consumer<? super T> action) {
+        long n = 0;
+        while (hasNext()) {
+            action.accept(next());
+            n++;
+        }
+        return n;
+    }
+
+    /**
+     * 按固定大小分批处理，最后一批可能不满；每批是新的List，可以在action中保留
+     *
+     * @return 处理的元素数量
+     */
+    public long forEachBatch(int batchSize, Consumer<List<T>> action) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+        }
+        long n = 0;
+        List<T> batch = new ArrayList<>(batchSize);
+        while (hasNext()) {
+            batch.add(next());
+            n++;
+            if (batch.size() == batchSize) {
+                action.accept(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            action.accept(batch);
+        }
+        return n;
+    }
+
+    // 顺序流(unordered时为完成顺序)，关闭stream时关闭reader
+    public Stream<T> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+                .onClose(this::close);
+    }
+
+    @Override
+    @SneakyThrows
+    public void close() {
+        if (!done) {
+            done = true;
+            current = Collections.emptyIterator();
+            pending.forEach(f -> f.cancel(false));
+            pending.clear();
+            completed.clear();
+            in.close();
+        }
+    }
+
+    // 下一块的解析结果，没有了返回null
+    @SneakyThrows
+    private List<T> nextChunk() {
+        fill();
+        if (inFlight == 0) return null;
+        CompletableFuture<List<T>> f = options.isOrdered() ? pending.poll() : completed.take();
+        inFlight--;
+        try {
+            return f.join();
+        } catch (CompletionException e) {
+            close();
+            throw e.getCause();
+        }
+    }
+
+    // 补满在解析中的块
+    private void fill() throws IOException {
+        while (inFlight < options.getMaxInFlight()) {
+            Chunk chunk = readChunk();
+            if (null == chunk) return;
+            CompletableFuture<List<T>> f = null == options.getExecutor()
+                    ? CompletableFuture.supplyAsync(() -> decode(chunk))
+                    : CompletableFuture.supplyAsync(() -> decode(chunk), options.getExecutor());
+            if (options.isOrdered()) {
+                pending.add(f);
+            } else {
+                f.whenComplete((r, e) -> completed.add(f));
+            }
+            inFlight++;
+        }
+    }
+
+    // 读到最后一个换行为止，剩下的留给下一块；一行比chunkSize长时扩大缓冲
+    private Chunk readChunk() throws IOException {
+        if (eof && carry.length == 0) return null;
+        byte[] buf = new byte[Math.max(options.getChunkSize(), carry.length * 2)];
+        System.arraycopy(carry, 0, buf, 0, carry.length);
+        int n = carry.length;
+        int scanned = carry.length;     // carry中没有换行
+        while (true) {
+            while (n < buf.length && !eof) {
+                int r = in.read(buf, n, buf.length - n);
+                if (r < 0) {
+                    eof = true;
+                } else {
+                    n += r;
+                }
+            }
+            if (eof) {
+                carry = new byte[0];
+                return newChunk(buf, n);
+            }
+            int cut = n - 1;
+            while (cut >= scanned && buf[cut] != '\n') cut--;
+            if (cut >= scanned) {
+                carry = new byte[n - cut - 1];
+                System.arraycopy(buf, cut + 1, carry, 0, carry.length);
+                return newChunk(buf, cut + 1);
+            }
+            scanned = n;
+            byte[] bigger = new byte[buf.length * 2];
+            System.arraycopy(buf, 0, bigger, 0, n);
+            buf = bigger;
+        }
+    }
+
+    private Chunk newChunk(byte[] buf, int len) {
+        Chunk c = new Chunk(buf, len, offset);
+        offset += len;
+        return c;
+    }
+
+    private List<T> decode(Chunk c) {
+        List<T> ret = new ArrayList<>();
+        try (MappingIterator<T> it = reader.readValues(c.bytes, 0, c.len)) {
+            while (it.hasNextValue()) {
+                ret.add(it.nextValue());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("ndjson decode failed in chunk at byte " + c.offset + ": " + e.getMessage(), e);
+        }
+        return ret;
+    }
+
+    private static final class Chunk {
+        final byte[] bytes;
+        final int len;
+        final long offset;
+
+        Chunk(byte[] bytes, int len, long offset) {
+            this.bytes = bytes;
+            this.len = len;
+            this.offset = offset;
+        }
+    }
+}
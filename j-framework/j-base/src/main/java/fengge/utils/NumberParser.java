@@ -0,0 +1,187 @@
+package fengge.utils;
+
+/**
+ * 数字解析 - 直接在CharSequence的[from, to)上解析，返回基础类型，格式不对时返回def，不抛异常
+ * 常见格式不创建任何对象(String、BigDecimal、异常)，适合导入时逐个单元格解析
+ * 格式：
+ * 整数 [+-]?[0-9]+
+ * 小数 [+-]?([0-9]+(.[0-9]*)?|.[0-9]+)([eE][+-]?[0-9]+)?
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+public final class NumberParser {
+    // 10^0 ~ 10^22 都可以用double精确表示，PrimitiveValueUtil.scale也用到
+    static final double[] POW10 = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+    // 不超过15位有效数字时，尾数可以用double精确表示，一次乘除即为正确舍入的结果
+    private static final int MAX_FAST_DIGITS = 15;
+
+    private NumberParser() {
+    }
+
+    public static int parseInt(CharSequence s, int def) {
+        return parseInt(s, 0, s.length(), def);
+    }
+
+    /**
+     * 整数，超出int范围返回def
+     */
+    public static int parseInt(CharSequence s, int from, int to, int def) {
+        long v = parseLong(s, from, to, Long.MIN_VALUE);
+        if (v == Long.MIN_VALUE || v != (int) v) return def;
+        return (int) v;
+    }
+
+    public static long parseLong(CharSequence s, long def) {
+        return parseLong(s, 0, s.length(), def);
+    }
+
+    /**
+     * 整数，超出long范围返回def
+     */
+    public static long parseLong(CharSequence s, int from, int to, long def) {
+        return integral(s, from, to, false, def);
+    }
+
+    /**
+     * 整数或小数，小数部分直接截断(与BigDecimal.longValue一致，如 -12.7 -> -12)
+     * 不支持指数；整数部分超出long范围返回def
+     */
+    public static long truncateToLong(CharSequence s, int from, int to, long def) {
+        return integral(s, from, to, true, def);
+    }
+
+    public static double parseDouble(CharSequence s, double def) {
+        return parseDouble(s, 0, s.length(), def);
+    }
+
+    /**
+     * 结果与Double.parseDouble一致；有效数字超过15位或指数较大时才会转成String交给Double.parseDouble
+     * 注意：不支持Double.parseDouble的前后空格、NaN、Infinity、十六进制和d/f后缀
+     */
+    public static double parseDouble(CharSequence s, int from, int to, double def) {
+        int i = from;
+        if (i >= to) return def;
+        boolean negative = false;
+        char c = s.charAt(i);
+        if (c == '-' || c == '+') {
+            negative = c == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int significant = 0;    // 有效数字个数(不含前导0)
+        int fractionDigits = 0;
+        int digits = 0;
+        for (; i < to; i++) {
+            int d = s.charAt(i) - '0';
+            if (d < 0 || d > 9) break;
+            digits++;
+            if (mantissa != 0 || d != 0) {
+                significant++;
+                mantissa = mantissa * 10 + d;
+            }
+        }
+        if (i < to && s.charAt(i) == '.') {
+            for (i++; i < to; i++) {
+                int d = s.charAt(i) - '0';
+                if (d < 0 || d > 9) break;
+                digits++;
+                fractionDigits++;
+                if (mantissa != 0 || d != 0) {
+                    significant++;
+                    mantissa = mantissa * 10 + d;
+                }
+            }
+        }
+        if (digits == 0) return def;
+        int exponent = 0;
+        if (i < to && (s.charAt(i) == 'e' || s.charAt(i) == 'E')) {
+            i++;
+            boolean negativeExp = false;
+            if (i < to && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+                negativeExp = s.charAt(i) == '-';
+                i++;
+            }
+            int expStart = i;
+            for (; i < to; i++) {
+                int d = s.charAt(i) - '0';
+                if (d < 0 || d > 9) break;
+                if (exponent < 100000) exponent = exponent * 10 + d;    // 再大的指数结果也只是0或Infinity
+            }
+            if (i == expStart) return def;
+            if (negativeExp) exponent = -exponent;
+        }
+        if (i != to) return def;
+
+        double value;
+        int e = exponent - fractionDigits;
+        if (significant <= MAX_FAST_DIGITS && e >= -22 && e <= 22) {
+            value = e >= 0 ? mantissa * POW10[e] : mantissa / POW10[-e];
+            return negative ? -value : value;
+        }
+        if (mantissa == 0 && significant == 0) {
+            return negative ? -0.0 : 0.0;
+        }
+        // 格式已经校验过，不会抛异常
+        return Double.parseDouble(s.subSequence(from, to).toString());
+    }
+
+    public static boolean isNumeric(CharSequence s) {
+        return isNumeric(s, 0, s.length());
+    }
+
+    /**
+     * 与正则 -?\d+(\.\d+)? 一致：可选的负号、整数、可选的小数部分(小数点后至少一位)
+     */
+    public static boolean isNumeric(CharSequence s, int from, int to) {
+        int i = from;
+        if (i < to && s.charAt(i) == '-') i++;
+        int start = i;
+        while (i < to && isDigit(s.charAt(i))) i++;
+        if (i == start) return false;
+        if (i == to) return true;
+        if (s.charAt(i) != '.') return false;
+        start = ++i;
+        while (i < to && isDigit(s.charAt(i))) i++;
+        return i > start && i == to;
+    }
+
+    private static long integral(CharSequence s, int from, int to, boolean allowFraction, long def) {
+        int i = from;
+        if (i >= to) return def;
+        boolean negative = false;
+        char c = s.charAt(i);
+        if (c == '-' || c == '+') {
+            negative = c == '-';
+            i++;
+        }
+        // 按负数累加，可以表示Long.MIN_VALUE；18位以内不会溢出，之后每位都检查
+        long v = 0;
+        int start = i;
+        for (; i < to; i++) {
+            int d = s.charAt(i) - '0';
+            if (d < 0 || d > 9) break;
+            if (i - start >= 18 && v < (Long.MIN_VALUE + d) / 10) return def;
+            v = v * 10 - d;
+        }
+        int intDigits = i - start;
+        if (i < to) {
+            if (!allowFraction || s.charAt(i) != '.') return def;
+            int fractionStart = ++i;
+            while (i < to && isDigit(s.charAt(i))) i++;
+            if (i != to || (intDigits == 0 && i == fractionStart)) return def;
+        } else if (intDigits == 0) {
+            return def;
+        }
+        if (!negative) {
+            if (v == Long.MIN_VALUE) return def;
+            v = -v;
+        }
+        return v;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
@@ -1,11 +1,8 @@
 package fengge.utils;
 
-import lombok.extern.slf4j.Slf4j;
-
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.math.RoundingMode;
-import java.util.regex.Pattern;
 
 /**
  * Description: 值判断和转换为java基础类型
@@ -14,7 +11,6 @@ import java.util.regex.Pattern;
  *
  * @author max.hu  @date 2021-12-20
  **/
-@Slf4j
 public class PrimitiveValueUtil {
 
     public static boolean isBoolean(Object value) {
@@ -33,15 +29,13 @@ public class PrimitiveValueUtil {
     }
 
     /**
-     * 判断字符串是否是数字
+     * 判断字符串是否是数字：正负、整数或小数，与正则 -?\d+(\.\d+)? 一致
      *
      * @param str
      * @return
      */
-    private static Pattern pattern = Pattern.compile("-?\\d+(\\.\\d+)?"); // 正负、整数或小数
-
     public static boolean isNumeric(String str) {
-        return pattern.matcher(str).matches();
+        return NumberParser.isNumeric(str);
     }
 
     public static Number getAsNumber(Object value) {
@@ -53,6 +47,15 @@ public class PrimitiveValueUtil {
     }
 
     public static double getAsDouble(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).doubleValue();
+        }
+        if (value instanceof CharSequence) {
+            double v = NumberParser.parseDouble((CharSequence) value, Double.NaN);
+            if (v == v) {
+                return v;
+            }
+        }
         return getAsNumber(value).doubleValue();
     }
 
@@ -73,6 +76,15 @@ public class PrimitiveValueUtil {
     }
 
     public static long getAsLong(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof CharSequence) {
+            long v = parseLong((CharSequence) value);
+            if (v != Long.MIN_VALUE) {
+                return v;
+            }
+        }
         return getAsNumber(value).longValue();
     }
 
@@ -81,9 +93,24 @@ public class PrimitiveValueUtil {
     }
 
     public static int getAsInt(Object value) {
+        if (value instanceof Number) {
+            return ((Number) value).intValue();
+        }
+        if (value instanceof CharSequence) {
+            long v = parseLong((CharSequence) value);
+            if (v != Long.MIN_VALUE) {
+                // 与BigDecimal.intValue一致：超出int范围时取低32位
+                return (int) v;
+            }
+        }
         return getAsNumber(value).intValue();
     }
 
+    // 整数或小数(截断)，不创建对象；其它格式返回Long.MIN_VALUE，由调用方按原来的方式解析
+    private static long parseLong(CharSequence cs) {
+        return NumberParser.truncateToLong(cs, 0, cs.length(), Long.MIN_VALUE);
+    }
+
     public static int getAsInt(Object value, int def) {
         return null == value ? def : getAsInt(value);
     }
@@ -134,99 +161,66 @@ public class PrimitiveValueUtil {
      * @param type
      */
     public static Object warpValue(Object value, Class type) {
-        if (null == type) {
-            return value;
+        return converter(type).convert(value);
+    }
+
+    /**
+     * 获取类型对应的转换器，第一次获取时创建并缓存
+     * type为null或不支持的类型时原样返回
+     */
+    public static ValueConverter converter(Class<?> type) {
+        return null == type ? IDENTITY : CONVERTERS.get(type);
+    }
+
+    private static final ValueConverter IDENTITY = value -> value;
+
+    private static final ClassValue<ValueConverter> CONVERTERS = new ClassValue<ValueConverter>() {
+        @Override
+        protected ValueConverter computeValue(Class<?> type) {
+            return createConverter(type);
         }
+    };
+
+    // 基础类型null时返回默认值，包装类型null时返回null
+    private static ValueConverter createConverter(Class<?> type) {
         if (type == String.class) {
-            return getAsString(value);
-        }
-        if (type == Integer.class || type == int.class) {
-            if (null == value) {
-                if (type == int.class) {
-                    return 0;
-                } else {
-                    return null;
-                }
-            }
-            return getAsInt(value);
-        }
-        if (type == Long.class || type == long.class) {
-            if (null == value) {
-                if (type == long.class) {
-                    return 0L;
-                } else {
-                    return null;
-                }
-            }
-            return getAsLong(value);
-        }
-        if (type == Double.class || type == double.class) {
-            if (null == value) {
-                if (type == double.class) {
-                    return 0.0;
-                } else {
-                    return null;
-                }
-            }
-            return getAsDouble(value);
-        }
-        if (type == Boolean.class || type == boolean.class) {
-            if (null == value) {
-                if (type == boolean.class) {
-                    return false;
-                } else {
-                    return null;
-                }
-            }
-            return getAsBool(value);
+            return PrimitiveValueUtil::getAsString;
+        }
+        if (type == int.class || type == Integer.class) {
+            return nullable(type == int.class ? 0 : null, PrimitiveValueUtil::getAsInt);
+        }
+        if (type == long.class || type == Long.class) {
+            return nullable(type == long.class ? 0L : null, PrimitiveValueUtil::getAsLong);
+        }
+        if (type == double.class || type == Double.class) {
+            return nullable(type == double.class ? 0.0 : null, PrimitiveValueUtil::getAsDouble);
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return nullable(type == boolean.class ? false : null, PrimitiveValueUtil::getAsBool);
         }
         if (type == BigDecimal.class) {
-            if (null == value) {
-                return null;
-            }
-            return getAsBigDecimal(value);
+            return nullable(null, PrimitiveValueUtil::getAsBigDecimal);
         }
         if (type == BigInteger.class) {
-            if (null == value) {
-                return null;
-            }
-            return getAsBigInteger(value);
-        }
-        if (type == Character.class || type == char.class) {
-            return getAsCharacter(value);
-        }
-        if (type == Byte.class || type == byte.class) {
-            if (null == value) {
-                if (type == byte.class) {
-                    return (byte) 0;
-                } else {
-                    return null;
-                }
-            }
-            return getAsByte(value);
-        }
-        if (type == Short.class || type == short.class) {
-            if (null == value) {
-                if (type == short.class) {
-                    return (short) 0;
-                } else {
-                    return null;
-                }
-            }
-            return getAsShort(value);
-        }
-        if (type == Float.class || type == float.class) {
-            if (null == value) {
-                if (type == float.class) {
-                    return (float) 0;
-                } else {
-                    return null;
-                }
-            }
-            return getAsFloat(value);
+            return nullable(null, PrimitiveValueUtil::getAsBigInteger);
+        }
+        if (type == char.class || type == Character.class) {
+            return PrimitiveValueUtil::getAsCharacter;
         }
+        if (type == byte.class || type == Byte.class) {
+            return nullable(type == byte.class ? (byte) 0 : null, PrimitiveValueUtil::getAsByte);
+        }
+        if (type == short.class || type == Short.class) {
+            return nullable(type == short.class ? (short) 0 : null, PrimitiveValueUtil::getAsShort);
+        }
+        if (type == float.class || type == Float.class) {
+            return nullable(type == float.class ? 0f : null, PrimitiveValueUtil::getAsFloat);
+        }
+        return IDENTITY;
+    }
 
-        return value;
+    private static ValueConverter nullable(Object def, ValueConverter converter) {
+        return value -> null == value ? def : converter.convert(value);
     }
 
     public static boolean isPrimitiveNumber(Class type) {
@@ -234,74 +228,293 @@ public class PrimitiveValueUtil {
                 || type == long.class || type == float.class || type == double.class;
     }
 
-    // 处理了null值 - 2024-3-11
+    private static final BadValueStats BAD_INT = new BadValueStats("PrimitiveValueUtil.toInt");
+    private static final BadValueStats BAD_LONG = new BadValueStats("PrimitiveValueUtil.toLong");
+    private static final BadValueStats BAD_DOUBLE = new BadValueStats("PrimitiveValueUtil.toDouble");
+
+    /**
+     * toInt/toLong/toDouble转换失败的统计
+     *
+     * @param type int.class、long.class或double.class
+     */
+    public static BadValueStats badValues(Class<?> type) {
+        if (type == int.class) return BAD_INT;
+        if (type == long.class) return BAD_LONG;
+        if (type == double.class) return BAD_DOUBLE;
+        throw new IllegalArgumentException("unsupported type: " + type);
+    }
+
+    /**
+     * 转换为int，null或格式不对时返回def；不抛异常，不记录
+     * 能转换的值结果与intValue一致
+     */
+    public static int tryInt(Object value, int def) {
+        if (value instanceof Number && !(value instanceof LazilyParsedNumber)) {
+            return ((Number) value).intValue();
+        }
+        if (null == value) {
+            return def;
+        }
+        CharSequence cs = value instanceof CharSequence ? (CharSequence) value : value.toString();
+        long v = parseLong(cs);
+        if (v != Long.MIN_VALUE) {
+            return (int) v;
+        }
+        BigDecimal d = quietDecimal(cs);
+        return null == d ? def : d.intValue();
+    }
+
+    /**
+     * 转换为long，null或格式不对时返回def；不抛异常，不记录
+     */
+    public static long tryLong(Object value, long def) {
+        if (value instanceof Number && !(value instanceof LazilyParsedNumber)) {
+            return ((Number) value).longValue();
+        }
+        if (null == value) {
+            return def;
+        }
+        CharSequence cs = value instanceof CharSequence ? (CharSequence) value : value.toString();
+        long v = parseLong(cs);
+        if (v != Long.MIN_VALUE) {
+            return v;
+        }
+        BigDecimal d = quietDecimal(cs);
+        return null == d ? def : d.longValue();
+    }
+
+    /**
+     * 转换为double，null或格式不对时返回def；不抛异常，不记录
+     */
+    public static double tryDouble(Object value, double def) {
+        if (value instanceof Number && !(value instanceof LazilyParsedNumber)) {
+            return ((Number) value).doubleValue();
+        }
+        if (null == value) {
+            return def;
+        }
+        CharSequence cs = value instanceof CharSequence ? (CharSequence) value : value.toString();
+        double v = NumberParser.parseDouble(cs, Double.NaN);
+        if (v == v) {
+            return v;
+        }
+        // 其它格式：前后空格、NaN、Infinity、十六进制、d/f后缀，交给Double.parseDouble
+        int from = 0;
+        int to = cs.length();
+        while (from < to && cs.charAt(from) <= ' ') from++;
+        while (to > from && cs.charAt(to - 1) <= ' ') to--;
+        if (from > 0 || to < cs.length()) {
+            v = NumberParser.parseDouble(cs, from, to, Double.NaN);
+            if (v == v) {
+                return v;
+            }
+        }
+        if (from == to || !maybeJavaDouble(cs, from, to)) {
+            return def;
+        }
+        try {
+            return Double.parseDouble(cs.toString());
+        } catch (NumberFormatException e) {
+            return def;
+        }
+    }
+
+    // 粗略判断Double.parseDouble是否可能接受，排除常见脏数据(-、N/A、12abc、全角数字等)，避免抛异常
+    private static boolean maybeJavaDouble(CharSequence cs, int from, int to) {
+        String s = cs.subSequence(from, to).toString();
+        if (s.endsWith("NaN") || s.endsWith("Infinity") || s.indexOf('x') >= 0 || s.indexOf('X') >= 0) {
+            return true;
+        }
+        // 十进制：数字、符号、小数点、指数，最后可以有d/f后缀
+        char last = s.charAt(s.length() - 1);
+        int end = "dDfF".indexOf(last) >= 0 ? s.length() - 1 : s.length();
+        boolean digit = false;
+        for (int i = 0; i < end; i++) {
+            char c = s.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digit = true;
+            } else if ("+-.eE".indexOf(c) < 0) {
+                return false;
+            }
+        }
+        return digit;
+    }
+
+    // NumberParser不认识的格式(指数、全角数字等)按原来的方式用BigDecimal解析，失败返回null
+    private static BigDecimal quietDecimal(CharSequence cs) {
+        if (!isDecimal(cs)) {
+            return null;
+        }
+        try {
+            return new BigDecimal(cs.toString());
+        } catch (NumberFormatException e) {
+            // 指数超出int范围等
+            return null;
+        }
+    }
+
+    // BigDecimal(String)的格式：[+-]?(数字+(.数字*)?|.数字+)([eE][+-]?数字+)?，数字包括全角等Unicode数字
+    private static boolean isDecimal(CharSequence cs) {
+        int i = 0;
+        int to = cs.length();
+        if (i < to && (cs.charAt(i) == '+' || cs.charAt(i) == '-')) i++;
+        int digits = 0;
+        for (; i < to && Character.isDigit(cs.charAt(i)); i++) digits++;
+        if (i < to && cs.charAt(i) == '.') {
+            for (i++; i < to && Character.isDigit(cs.charAt(i)); i++) digits++;
+        }
+        if (digits == 0) return false;
+        if (i < to && (cs.charAt(i) == 'e' || cs.charAt(i) == 'E')) {
+            i++;
+            if (i < to && (cs.charAt(i) == '+' || cs.charAt(i) == '-')) i++;
+            int start = i;
+            while (i < to && Character.isDigit(cs.charAt(i))) i++;
+            if (i == start) return false;
+        }
+        return i == to;
+    }
+
+    // 处理了null值 - 2024-3-11，直接返回基础类型，不装箱
     public static int intValue(Object value) {
-        return (int) warpValue(value, int.class);
+        return null == value ? 0 : getAsInt(value);
     }
 
-    // 非number类型的特殊处理
+    // 非number类型的特殊处理：转换失败返回0，不抛异常；失败的值记录到badValues(int.class)，汇总打印日志
     public static int toInt(Object value) {
-        try {
-            return intValue(value);
-        } catch (Exception e) {
-            log.warn("value: " + value, e);
+        if (null == value) {
+            return 0;
         }
-        return 0;
+        int v = tryInt(value, Integer.MIN_VALUE);
+        // Integer.MIN_VALUE也可能是正常结果，再用另一个默认值确认是否失败
+        if (v == Integer.MIN_VALUE && tryInt(value, 0) == 0) {
+            BAD_INT.record(value);
+            return 0;
+        }
+        return v;
     }
 
     public static long longValue(Object value) {
-        return (long) warpValue(value, long.class);
+        return null == value ? 0L : getAsLong(value);
     }
 
-    // 非number类型的特殊处理
+    // 非number类型的特殊处理：转换失败返回0L，不抛异常；失败的值记录到badValues(long.class)，汇总打印日志
     public static long toLong(Object value) {
-        try {
-            return longValue(value);
-        } catch (Exception e) {
-            log.warn("value: " + value, e);
+        if (null == value) {
+            return 0L;
         }
-        return 0L;
+        long v = tryLong(value, Long.MIN_VALUE);
+        // Long.MIN_VALUE也可能是正常结果，再用另一个默认值确认是否失败
+        if (v == Long.MIN_VALUE && tryLong(value, 0L) == 0L) {
+            BAD_LONG.record(value);
+            return 0L;
+        }
+        return v;
     }
 
 
     public static double doubleValue(Object value) {
-        return (double) warpValue(value, double.class);
+        return null == value ? 0.0 : getAsDouble(value);
     }
 
-    // 非number类型的特殊处理
+    // 非number类型的特殊处理：转换失败返回0.0，不抛异常；失败的值记录到badValues(double.class)，汇总打印日志
     public static double toDouble(Object value) {
-        try {
-            return doubleValue(value);
-        } catch (Exception e) {
-            log.warn("value: " + value, e);
+        if (null == value) {
+            return 0.0;
+        }
+        double v = tryDouble(value, Double.NaN);
+        // NaN本身也可能是正常结果(如"NaN")，再用另一个默认值确认是否失败
+        if (v != v && tryDouble(value, 0.0) == 0.0) {
+            BAD_DOUBLE.record(value);
+            return 0.0;
         }
-        return 0.0;
+        return v;
     }
 
 
     public static byte byteValue(Object value) {
-        return (byte) warpValue(value, byte.class);
+        return null == value ? 0 : getAsByte(value);
     }
 
     public static short shortValue(Object value) {
-        return (short) warpValue(value, short.class);
+        return null == value ? 0 : getAsShort(value);
     }
 
     public static float floatValue(Object value) {
-        return (float) warpValue(value, float.class);
+        return null == value ? 0f : getAsFloat(value);
     }
 
     public static boolean boolValue(Object value) {
-        return (boolean) warpValue(value, boolean.class);
+        return null != value && getAsBool(value);
     }
 
     // 扩展Number操作
     /**
-     * 保留n位小数 -- org.apache.commons.lang3.math.NumberUtils
+     * 保留n位小数，HALF_UP -- org.apache.commons.lang3.math.NumberUtils
+     * 结果与 new BigDecimal(d).setScale(n, HALF_UP).doubleValue() 一致(按d的二进制精确值舍入，如2.675 -> 2.67)
+     * n在0~22且|d|*10^n小于2^52时用10的幂查表计算，不创建BigDecimal；其它情况(含NaN、Infinity)仍用BigDecimal
+     * 注意：计算依赖Math.fma，在没有FMA指令的CPU上fma由BigDecimal软件实现，非常慢(比直接用BigDecimal还慢)
      */
     public static double scale(double d, int n) {
-        BigDecimal b = new BigDecimal(d);
-        return b.setScale(n, RoundingMode.HALF_UP).doubleValue();
+        if (n >= 0 && n < NumberParser.POW10.length) {
+            double r = roundHalfUp(d, NumberParser.POW10[n]);
+            if (r == r) {
+                return r;
+            }
+        }
+        return new BigDecimal(d).setScale(n, RoundingMode.HALF_UP).doubleValue();
+    }
+
+    /**
+     * 批量保留n位小数，结果写入dst(可以与src是同一个数组)，与逐个调用scale一致
+     */
+    public static void scale(double[] src, double[] dst, int n) {
+        if (dst.length < src.length) {
+            throw new IllegalArgumentException("dst.length < src.length");
+        }
+        if (n < 0 || n >= NumberParser.POW10.length) {
+            for (int i = 0; i < src.length; i++) dst[i] = scale(src[i], n);
+            return;
+        }
+        double p = NumberParser.POW10[n];
+        for (int i = 0; i < src.length; i++) {
+            double r = roundHalfUp(src[i], p);
+            dst[i] = r == r ? r : new BigDecimal(src[i]).setScale(n, RoundingMode.HALF_UP).doubleValue();
+        }
+    }
+
+    public static void scale(double[] values, int n) {
+        scale(values, values, n);
+    }
+
+    // |d|*p 超过2^52时小数部分不再精确，交给BigDecimal
+    private static final double MAX_EXACT = 0x1p52;
+
+    /**
+     * 按 |d|*p 的精确值四舍五入(远离0)后再除以p，p为10的幂；无法精确计算时返回NaN
+     */
+    private static double roundHalfUp(double d, double p) {
+        double a = Math.abs(d);
+        double x = a * p;
+        if (!(x < MAX_EXACT)) {
+            return Double.NaN;
+        }
+        // 精确值一定小于0.5，BigDecimal的结果为0.0(没有-0.0)；也避免下面的误差计算下溢
+        if (x < 0.25) {
+            return 0.0;
+        }
+        double k = Math.floor(x);
+        // x是a*p舍入后的结果，err = a*p - x 可以精确表示，fma一次算出
+        double err = Math.fma(a, p, -x);
+        // 精确值 - k - 0.5 的符号：前一部分没有舍入误差，加上err后符号不变
+        if ((x - k - 0.5) + err >= 0) {
+            k += 1;
+        }
+        if (k == 0) {
+            return 0.0;
+        }
+        // k和p都是精确的，一次除法即为正确舍入的结果，与BigDecimal.doubleValue一致
+        double r = k / p;
+        return d < 0 ? -r : r;
     }
 
     public static double scale2(double d) {
@@ -0,0 +1,263 @@
+package fengge.utils;
+
+import lombok.Getter;
+import lombok.SneakyThrows;
+
+import java.lang.invoke.*;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * 编译后的属性读写 - 属性或getter/setter只解析一次，之后直接调用，不再走Field.get/set、Method.invoke和setAccessible
+ * 通过目标类的私有Lookup访问，不修改传入的Field/Method的访问标志
+ * 引用类型参数的getter/setter用LambdaMetafactory生成实现类，接近直接调用；属性和基础类型参数的setter用MethodHandle
+ * (类型转换与反射一致，如Integer可以设置到long属性)；都不行时(如模块未开放)退回反射
+ * 按Field/Method缓存在所属类的ClassMetadata中；查找本身有开销，需要反复读写时先取出PropertyAccessor再调用
+ * eg:
+ * PropertyAccessor amount = ClassMetadata.of(Order.class).getFieldAccessor("amount");
+ * amount.set(order, 12.5);
+ * PropertyAccessor.of(setterMethod).set(order, "PAID");
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+public final class PropertyAccessor {
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    @Getter
+    private final String name;
+    private final Function<Object, Object> getter;
+    private final BiConsumer<Object, Object> setter;
+
+    private PropertyAccessor(String name, Function<Object, Object> getter, BiConsumer<Object, Object> setter) {
+        this.name = name;
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    /**
+     * 属性的读写，静态属性忽略obj
+     */
+    public static PropertyAccessor of(Field field) {
+        return ClassMetadata.of(field.getDeclaringClass()).accessor(field);
+    }
+
+    /**
+     * getter(无参数)或setter(一个参数)方法
+     */
+    public static PropertyAccessor of(Method method) {
+        return ClassMetadata.of(method.getDeclaringClass()).accessor(method);
+    }
+
+    public boolean isReadable() {
+        return null != getter;
+    }
+
+    public boolean isWritable() {
+        return null != setter;
+    }
+
+    /**
+     * 读取，异常(类型不对、obj为null等)直接抛出
+     */
+    public Object get(Object obj) {
+        if (null == getter) {
+            throw new UnsupportedOperationException("not readable: " + name);
+        }
+        return getter.apply(obj);
+    }
+
+    /**
+     * 写入，类型转换与反射一致，异常直接抛出
+     */
+    public void set(Object obj, Object value) {
+        if (null == setter) {
+            throw new UnsupportedOperationException("not writable: " + name);
+        }
+        setter.accept(obj, value);
+    }
+
+    // 用目标类的私有Lookup编译，不调用setAccessible，缓存的Field/Method对象不会被修改
+    static PropertyAccessor compile(Field field) {
+        MethodHandles.Lookup lookup = privateLookup(field.getDeclaringClass());
+        if (null == lookup) {
+            Field copy = accessibleCopy(field);
+            return new PropertyAccessor(field.getName(), reflectGetter(copy), reflectSetter(copy));
+        }
+        boolean isStatic = Modifier.isStatic(field.getModifiers());
+        Function<Object, Object> getter;
+        try {
+            MethodHandle mh = lookup.unreflectGetter(field);
+            getter = handleGetter(isStatic ? MethodHandles.dropArguments(mh, 0, Object.class) : mh);
+        } catch (IllegalAccessException e) {
+            getter = reflectGetter(accessibleCopy(field));
+        }
+        BiConsumer<Object, Object> setter;
+        try {
+            MethodHandle mh = lookup.unreflectSetter(field);
+            setter = handleSetter(isStatic ? MethodHandles.dropArguments(mh, 0, Object.class) : mh);
+        } catch (IllegalAccessException e) {
+            // final属性：与原来一样用打开权限的反射写入(static final由反射抛出原来的异常)
+            setter = reflectSetter(accessibleCopy(field));
+        }
+        return new PropertyAccessor(field.getName(), getter, setter);
+    }
+
+    static PropertyAccessor compile(Method method) {
+        int count = method.getParameterCount();
+        if (count > 1 || (count == 0 && method.getReturnType() == void.class)) {
+            throw new IllegalArgumentException("neither getter nor setter: " + method);
+        }
+        boolean getter = count == 0;
+        MethodHandle mh = null;
+        MethodHandles.Lookup lookup = privateLookup(method.getDeclaringClass());
+        if (null != lookup) {
+            try {
+                mh = lookup.unreflect(method);
+            } catch (IllegalAccessException ignored) {
+            }
+        }
+        if (null == mh) {
+            Method copy = accessibleCopy(method);
+            return getter ? new PropertyAccessor(method.getName(), reflectGetter(copy), null)
+                    : new PropertyAccessor(method.getName(), null, reflectSetter(copy));
+        }
+        if (Modifier.isStatic(method.getModifiers())) {
+            mh = MethodHandles.dropArguments(mh, 0, Object.class);
+        } else {
+            // 基础类型参数由LambdaMetafactory转换时不支持Integer->long这类拓宽，保持与反射一致用MethodHandle
+            boolean lambda = getter || !method.getParameterTypes()[0].isPrimitive();
+            Object fn = lambda ? metafactory(method, mh, getter) : null;
+            if (null != fn) {
+                return getter ? new PropertyAccessor(method.getName(), cast(fn), null)
+                        : new PropertyAccessor(method.getName(), null, cast(fn));
+            }
+        }
+        return getter ? new PropertyAccessor(method.getName(), handleGetter(mh), null)
+                : new PropertyAccessor(method.getName(), null, handleSetter(mh));
+    }
+
+    // 目标类的私有Lookup，不需要setAccessible；模块未开放等情况返回null
+    static MethodHandles.Lookup privateLookup(Class<?> owner) {
+        try {
+            return MethodHandles.privateLookupIn(owner, MethodHandles.lookup());
+        } catch (IllegalAccessException | SecurityException e) {
+            return null;
+        }
+    }
+
+    // 反射的副本，打开访问权限(失败时调用由反射抛出原来的异常)，不影响调用方和缓存中的对象
+    @SneakyThrows
+    private static Field accessibleCopy(Field field) {
+        Field copy = field.getDeclaringClass().getDeclaredField(field.getName());
+        copy.trySetAccessible();
+        return copy;
+    }
+
+    @SneakyThrows
+    private static Method accessibleCopy(Method method) {
+        Method copy = method.getDeclaringClass().getDeclaredMethod(method.getName(), method.getParameterTypes());
+        copy.trySetAccessible();
+        return copy;
+    }
+
+    // 生成Function/BiConsumer的实现类，需要目标类的私有访问权限(不同ClassLoader、未开放的模块会失败)，失败返回null
+    private static Object metafactory(Method method, MethodHandle mh, boolean getter) {
+        CallSite site;
+        try {
+            Class<?> owner = method.getDeclaringClass();
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(owner, MethodHandles.lookup());
+            if ((lookup.lookupModes() & MethodHandles.Lookup.PRIVATE) == 0) {
+                return null;
+            }
+            MethodType instantiated = getter
+                    ? MethodType.methodType(MethodType.methodType(method.getReturnType()).wrap().returnType(), owner)
+                    : MethodType.methodType(void.class, owner, method.getParameterTypes()[0]);
+            site = getter
+                    ? LambdaMetafactory.metafactory(lookup, "apply", MethodType.methodType(Function.class),
+                    GETTER_TYPE, mh, instantiated)
+                    : LambdaMetafactory.metafactory(lookup, "accept", MethodType.methodType(BiConsumer.class),
+                    SETTER_TYPE, mh, instantiated);
+        } catch (ReflectiveOperationException | LambdaConversionException | IllegalArgumentException
+                 | SecurityException e) {
+            return null;
+        }
+        return newInstance(site);
+    }
+
+    // 没有捕获参数的lambda，工厂方法返回固定的实例
+    @SneakyThrows
+    private static Object newInstance(CallSite site) {
+        return site.getTarget().invoke();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object fn) {
+        return (T) fn;
+    }
+
+    private static Function<Object, Object> handleGetter(MethodHandle mh) {
+        MethodHandle h = mh.asType(GETTER_TYPE);
+        return new Function<Object, Object>() {
+            @Override
+            @SneakyThrows
+            public Object apply(Object obj) {
+                return h.invokeExact(obj);
+            }
+        };
+    }
+
+    private static BiConsumer<Object, Object> handleSetter(MethodHandle mh) {
+        MethodHandle h = mh.asType(SETTER_TYPE);
+        return new BiConsumer<Object, Object>() {
+            @Override
+            @SneakyThrows
+            public void accept(Object obj, Object value) {
+                h.invokeExact(obj, value);
+            }
+        };
+    }
+
+    private static Function<Object, Object> reflectGetter(Field field) {
+        return new Function<Object, Object>() {
+            @Override
+            @SneakyThrows
+            public Object apply(Object obj) {
+                return field.get(obj);
+            }
+        };
+    }
+
+    private static BiConsumer<Object, Object> reflectSetter(Field field) {
+        return new BiConsumer<Object, Object>() {
+            @Override
+            @SneakyThrows
+            public void accept(Object obj, Object value) {
+                field.set(obj, value);
+            }
+        };
+    }
+
+    private static Function<Object, Object> reflectGetter(Method method) {
+        return new Function<Object, Object>() {
+            @Override
+            @SneakyThrows
+            public Object apply(Object obj) {
+                return method.invoke(obj);
+            }
+        };
+    }
+
+    private static BiConsumer<Object, Object> reflectSetter(Method method) {
+        return new BiConsumer<Object, Object>() {
+            @Override
+            @SneakyThrows
+            public void accept(Object obj, Object value) {
+                method.invoke(obj, value);
+            }
+        };
+    }
+}
@@ -0,0 +1,75 @@
+package fengge.utils;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * 线程内复用的输出缓冲 - 序列化时不再每次分配新的byte[]
+ * acquire/release 成对使用；嵌套使用(序列化过程中又调用了序列化)时临时分配一个新的
+ * 超过 MAX_RETAINED 的大缓冲在release时丢弃，避免线程长期持有大块内存
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+final class ReusableByteOutput extends OutputStream {
+    private static final int INITIAL_SIZE = 8 * 1024;
+    private static final int MAX_RETAINED = 1024 * 1024;
+    private static final ThreadLocal<ReusableByteOutput> LOCAL = ThreadLocal.withInitial(ReusableByteOutput::new);
+
+    private byte[] buf = new byte[INITIAL_SIZE];
+    private int count;
+    private boolean inUse;
+
+    static ReusableByteOutput acquire() {
+        ReusableByteOutput out = LOCAL.get();
+        if (out.inUse) {
+            return new ReusableByteOutput();
+        }
+        out.inUse = true;
+        out.count = 0;
+        return out;
+    }
+
+    void release() {
+        inUse = false;
+        if (buf.length > MAX_RETAINED) {
+            buf = new byte[INITIAL_SIZE];
+        }
+    }
+
+    @Override
+    public void write(int b) {
+        ensure(count + 1);
+        buf[count++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        ensure(count + len);
+        System.arraycopy(b, off, buf, count, len);
+        count += len;
+    }
+
+    int size() {
+        return count;
+    }
+
+    byte[] toByteArray() {
+        return Arrays.copyOf(buf, count);
+    }
+
+    // 不复制，只在下一次acquire之前有效
+    ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(buf, 0, count);
+    }
+
+    private void ensure(int capacity) {
+        if (capacity < 0) {
+            throw new OutOfMemoryError("buffer too large");
+        }
+        if (capacity > buf.length) {
+            int n = Math.max(buf.length << 1, capacity);
+            buf = Arrays.copyOf(buf, n < 0 ? Integer.MAX_VALUE - 8 : n);
+        }
+    }
+}
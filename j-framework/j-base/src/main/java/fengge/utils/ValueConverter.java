@@ -0,0 +1,13 @@
+package fengge.utils;
+
+/**
+ * 值转换器 - 把任意值转换为指定类型，规则与 @see PrimitiveValueUtil#warpValue 一致
+ * 通过 PrimitiveValueUtil.converter(type) 获取，每个类型只创建一次；按列/字段转换时先取出转换器再逐个调用
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+@FunctionalInterface
+public interface ValueConverter {
+
+    Object convert(Object value);
+}
@@ -0,0 +1,168 @@
+package fengge.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BeanCopier的类型转换规则：直接赋值、拓宽、包装类型 -> 基础类型、String -> 数字，以及跳过的属性
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+class BeanCopierTest {
+    static class Source {
+        static String shared = "source";
+        private int count = 3;
+        private float ratio = 1.5f;
+        private Integer amount;
+        private Long total = 9L;
+        private String quantity = "12";
+        private String price = "2.5";
+        private String fee = "0.10";
+        private long id = 7;
+        private List<String> tags = new ArrayList<>(Arrays.asList("a", "b"));
+        private List<Integer> codes = new ArrayList<>(Arrays.asList(1, 2));
+        private Map<String, Object> attrs = new HashMap<>();
+        private String version = "2";
+        private Holder owner = new Holder();
+        private List<String> labels = new ArrayList<>();
+    }
+
+    static class Target {
+        static String shared = "target";
+        private long count;
+        private double ratio;
+        private int amount = -1;
+        private long total;
+        private int quantity;
+        private double price;
+        private BigDecimal fee;
+        private String id;
+        private List<String> tags;
+        private List<String> codes;
+        private Date attrs = new Date(0);
+        private final String version = "1";
+        private String owner = "keep";
+        private String labels = "keep";
+    }
+
+    // Source的owner属性：临时ClassLoader加载的Source也要能访问
+    public static class Holder {
+        private List<String> tags;
+        private int count;
+        private BigDecimal fee;
+    }
+
+    @Test
+    void copyConvertsValues() {
+        Target t = BeanCopier.copy(new Source(), Target.class);
+        // 拓宽
+        assertEquals(3L, t.count);
+        assertEquals(1.5d, t.ratio);
+        // 包装类型 -> 基础类型，null -> 0
+        assertEquals(0, t.amount);
+        assertEquals(9L, t.total);
+        // String -> 数字，数字 -> String
+        assertEquals(12, t.quantity);
+        assertEquals(2.5d, t.price);
+        assertEquals(new BigDecimal("0.10"), t.fee);
+        assertEquals("7", t.id);
+    }
+
+    @Test
+    void copySkipsFieldsThatCannotBeCopied() throws ReflectiveOperationException {
+        Source s = new Source();
+        Target t = BeanCopier.copy(s, Target.class);
+        // 泛型一致时复制引用
+        assertSame(s.tags, t.tags);
+        // List<Integer> -> List<String>、无法转换的Map -> Date 跳过
+        assertNull(t.codes);
+        assertEquals(new Date(0), t.attrs);
+        // bean、集合 -> String 跳过，不调用toString
+        assertEquals("keep", t.owner);
+        assertEquals("keep", t.labels);
+        // final、static跳过
+        Field version = Target.class.getDeclaredField("version");
+        version.setAccessible(true);
+        assertEquals("1", version.get(t));
+        assertEquals("target", Target.shared);
+        assertEquals("source", Source.shared);
+    }
+
+    @Test
+    void copyFailsOnInvalidNumber() {
+        Source s = new Source();
+        s.quantity = "x";
+        assertThrows(NumberFormatException.class, () -> BeanCopier.copy(s, Target.class));
+    }
+
+    @Test
+    void fromMapConvertsValuesAndSkipsGenericFields() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("tags", Collections.singletonList("a"));
+        map.put("count", "5");
+        map.put("fee", 0.5d);
+        map.put("unknown", 1);
+        Holder h = BeanCopier.fromMap(map, Holder.class);
+        assertNull(h.tags);
+        assertEquals(5, h.count);
+        assertEquals(new BigDecimal("0.5"), h.fee);
+        map.put("count", null);
+        BeanCopier.fromMap(map, h);
+        assertEquals(0, h.count);
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void copyDoesNotChangeCachedFields() {
+        BeanCopier.copy(new Source(), Target.class);
+        BeanCopier.fromMap(Collections.singletonMap("count", 1), Holder.class);
+        for (Class<?> c : new Class<?>[]{Source.class, Target.class, Holder.class}) {
+            for (Field f : ClassUtil.getDeclaredFields(c)) {
+                assertFalse(f.isAccessible(), f.toString());
+            }
+        }
+    }
+
+    // 临时ClassLoader的源类型复制到长期存在的目标类型，计划不引用住临时的ClassLoader
+    @Test
+    void copyDoesNotPinSourceClassLoader() throws Exception {
+        WeakReference<ClassLoader> ref = copyWithTemporaryLoader();
+        for (int i = 0; i < 50 && null != ref.get(); i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        assertNull(ref.get());
+    }
+
+    private static WeakReference<ClassLoader> copyWithTemporaryLoader() throws ReflectiveOperationException {
+        URL classes = BeanCopierTest.class.getProtectionDomain().getCodeSource().getLocation();
+        URLClassLoader loader = new URLClassLoader(new URL[]{classes}, BeanCopierTest.class.getClassLoader()) {
+            @Override
+            protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+                // 只有Source由自己加载
+                if (!name.equals(Source.class.getName())) {
+                    return super.loadClass(name, resolve);
+                }
+                synchronized (getClassLoadingLock(name)) {
+                    Class<?> c = findLoadedClass(name);
+                    return null != c ? c : findClass(name);
+                }
+            }
+        };
+        Class<?> source = Class.forName(Source.class.getName(), false, loader);
+        assertNotSame(Source.class, source);
+        java.lang.reflect.Constructor<?> c = source.getDeclaredConstructor();
+        c.setAccessible(true);
+        Target t = BeanCopier.copy(c.newInstance(), Target.class);
+        assertEquals(12, t.quantity);
+        return new WeakReference<>(loader);
+    }
+}
@@ -0,0 +1,107 @@
+package fengge.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ClassUtil的读写不修改缓存中Field的访问标志，行为与原来的setAccessible + Field.get/set一致
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+class ClassUtilTest {
+    static class Base {
+        private String creator;
+        private final long version = 1;
+    }
+
+    static class Bean extends Base {
+        private int count;
+        private long total;
+
+        protected String name(int i) {
+            return String.valueOf(i);
+        }
+    }
+
+    static class Child extends Bean {
+    }
+
+    static class Param {
+    }
+
+    private static Field field(Class<?> type, String name) {
+        for (Field f : ClassUtil.getDeclaredFields(type)) {
+            if (f.getName().equals(name)) return f;
+        }
+        throw new AssertionError(name);
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void fieldAccessDoesNotChangeCachedFields() {
+        Bean bean = new Bean();
+        Field count = field(Bean.class, "count");
+        Field creator = field(Bean.class, "creator");
+        assertTrue(ClassUtil.silencedInjection(bean, count, 3));
+        assertTrue(ClassUtil.silencedInjection(bean, creator, "max"));
+        assertEquals(3, ClassUtil.getFieldValue(bean, count));
+        assertEquals("max", ClassUtil.getFieldValue(bean, creator));
+        for (Field f : ClassUtil.getDeclaredFields(Bean.class)) {
+            assertFalse(f.isAccessible(), f.getName());
+        }
+    }
+
+    @Test
+    void fieldInjectionKeepsReflectionSemantics() {
+        Bean bean = new Bean();
+        // Integer -> long 拓宽
+        assertTrue(ClassUtil.silencedInjection(bean, field(Bean.class, "total"), 7));
+        assertEquals(7L, bean.total);
+        // 实例的final属性：与setAccessible(true) + Field.set一致，可以写入
+        assertTrue(ClassUtil.silencedInjection(bean, field(Bean.class, "version"), 2L));
+        assertEquals(2L, ClassUtil.getFieldValue(bean, field(Bean.class, "version")));
+        // 类型不对：返回false，不抛出
+        assertFalse(ClassUtil.silencedInjection(bean, field(Bean.class, "count"), "x"));
+        assertFalse(ClassUtil.silencedInjection(new Object(), field(Bean.class, "count"), 1));
+        assertNull(ClassUtil.getFieldValue(new Object(), field(Bean.class, "count")));
+    }
+
+    @Test
+    void findMethodSearchesSuperclasses() throws NoSuchMethodException {
+        assertEquals(Bean.class.getDeclaredMethod("name", int.class),
+                ClassUtil.getDeclaredMethod(Child.class, "name", int.class));
+        assertEquals(Object.class.getDeclaredMethod("hashCode"), ClassUtil.getDeclaredMethod(Child.class, "hashCode"));
+        assertNull(ClassUtil.getDeclaredMethod(Child.class, "name", long.class));
+        // 第二次来自缓存
+        assertNull(ClassUtil.getDeclaredMethod(Child.class, "name", long.class));
+        assertNotNull(ClassUtil.getDeclaredMethod(Child.class, "name", int.class));
+    }
+
+    // 参数类型来自其它ClassLoader的查询不缓存，ClassLoader可以回收
+    @Test
+    void findMethodDoesNotPinOtherClassLoaders() throws Exception {
+        WeakReference<ClassLoader> ref = lookupWithTemporaryLoader();
+        for (int i = 0; i < 50 && null != ref.get(); i++) {
+            System.gc();
+            Thread.sleep(20);
+        }
+        assertNull(ref.get());
+    }
+
+    private static WeakReference<ClassLoader> lookupWithTemporaryLoader() throws ClassNotFoundException {
+        URL classes = ClassUtilTest.class.getProtectionDomain().getCodeSource().getLocation();
+        // 不委托给父ClassLoader，得到另一个Param类
+        URLClassLoader loader = new URLClassLoader(new URL[]{classes}, null);
+        Class<?> param = Class.forName(Param.class.getName(), false, loader);
+        assertNotSame(Param.class, param);
+        assertNull(ClassUtil.getDeclaredMethod(Child.class, "name", param));
+        return new WeakReference<>(loader);
+    }
+}
@@ -0,0 +1,94 @@
+package fengge.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
+import java.util.Date;
+import java.util.TimeZone;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * DateFormatters/DatetimeUtil的解析与SimpleDateFormat一致：宽松、只解析到pattern结束、'u'表示星期几、'S'表示毫秒
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+class DateFormattersTest {
+    private static final TimeZone ZONE = TimeZone.getTimeZone("Asia/Shanghai");
+
+    private static long legacyParse(String text, String pattern) throws Exception {
+        SimpleDateFormat sdf = new SimpleDateFormat(pattern);
+        sdf.setTimeZone(ZONE);
+        return sdf.parse(text).getTime();
+    }
+
+    private static String legacyFormat(long timestamp, String pattern) {
+        SimpleDateFormat sdf = new SimpleDateFormat(pattern);
+        sdf.setTimeZone(ZONE);
+        return sdf.format(new Date(timestamp));
+    }
+
+    @Test
+    void parseIgnoresTrailingText() throws Exception {
+        String[][] cases = {
+                {"2024-01-02 10:00:00", "yyyy-MM-dd"},
+                {"2024-01-02T10:00:00Z", "yyyy-MM-dd"},
+                {"2024-01-02 03:04:05.123", "yyyy-MM-dd HH:mm:ss"},
+                {"20240102abc", "yyyyMMdd"},
+                {"2024-1-2", "yyyy-MM-dd"},
+                {"2024-02-30", "yyyy-MM-dd"},
+                {"2024-01-02 030405 extra", "yyyy-MM-dd HHmmss"},
+        };
+        for (String[] c : cases) {
+            assertEquals(legacyParse(c[0], c[1]), DateFormatters.parse(c[0], c[1], ZONE), c[0] + " / " + c[1]);
+        }
+    }
+
+    @Test
+    void parseRejectsTextNotMatchingPattern() {
+        assertThrows(DateTimeException.class, () -> DateFormatters.parse("abc", "yyyy-MM-dd", ZONE));
+        assertThrows(DateTimeException.class, () -> DateFormatters.parse("2024/01/02", "yyyy-MM-dd", ZONE));
+        assertThrows(RuntimeException.class, () -> DatetimeUtil.format("2024/01/02", ZONE));
+    }
+
+    @Test
+    void datetimeUtilAcceptsDatetimeStrings() {
+        assertEquals(DatetimeUtil.format("2024-01-02", ZONE), DatetimeUtil.format("2024-01-02 10:00:00", ZONE));
+        assertEquals(2, DatetimeUtil.rangeDays("2024-01-01 10:00:00", "2024-01-03 09:00:00"));
+        assertEquals(DatetimeUtil.parseDate("2024-01-02 03:04:05", ZONE),
+                DatetimeUtil.parseDate("2024-01-02 03:04:05.123", ZONE));
+    }
+
+    @Test
+    void dayOfWeekPatternLetter() throws Exception {
+        long ts = legacyParse("2024-01-02 10:00:00", "yyyy-MM-dd HH:mm:ss");     // 星期二
+        for (String pattern : new String[]{"u", "yyyy-MM-dd u", "uu 'u' yyyy", "EEE u"}) {
+            assertEquals(legacyFormat(ts, pattern), DateFormatters.format(ts, pattern, ZONE), pattern);
+        }
+        assertEquals(legacyParse("2024-01-02 2", "yyyy-MM-dd u"), DateFormatters.parse("2024-01-02 2", "yyyy-MM-dd u", ZONE));
+    }
+
+    @Test
+    void millisecondPatternLetter() throws Exception {
+        String[] patterns = {"HH:mm:ss.S", "HH:mm:ss.SS", "HH:mm:ss.SSS", "yyyy-MM-dd HH:mm:ss.SSSS", "HHmmssSSS", "S 'S'"};
+        for (String text : new String[]{"2024-01-02 10:00:00.813", "2024-01-02 10:00:00.005", "2024-01-02 10:00:00.040",
+                "2024-01-02 10:00:00.000"}) {
+            long ts = legacyParse(text, "yyyy-MM-dd HH:mm:ss.SSS");
+            for (String pattern : patterns) {
+                assertEquals(legacyFormat(ts, pattern), DateFormatters.format(ts, pattern, ZONE), text + " / " + pattern);
+            }
+        }
+        String[][] cases = {
+                {"2024-01-02 10:00:00.813", "yyyy-MM-dd HH:mm:ss.S"},
+                {"2024-01-02 10:00:00.8", "yyyy-MM-dd HH:mm:ss.S"},
+                {"2024-01-02 10:00:00.8", "yyyy-MM-dd HH:mm:ss.SSS"},
+                {"2024-01-02 10:00:00.005", "yyyy-MM-dd HH:mm:ss.SSS"},
+                {"2024-01-02 10:00:00.1234", "yyyy-MM-dd HH:mm:ss.SSS"},
+                {"20240102100000813", "yyyyMMddHHmmssSSS"},
+        };
+        for (String[] c : cases) {
+            assertEquals(legacyParse(c[0], c[1]), DateFormatters.parse(c[0], c[1], ZONE), c[0] + " / " + c[1]);
+        }
+    }
+}
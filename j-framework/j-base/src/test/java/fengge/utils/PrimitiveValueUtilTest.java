@@ -0,0 +1,95 @@
+package fengge.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * PrimitiveValueUtil.scale与BigDecimal(HALF_UP)逐位比较，包括批量版本
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+class PrimitiveValueUtilTest {
+    private static final int MAX_N = 22;
+
+    private static double expected(double d, int n) {
+        if (Double.isNaN(d) || Double.isInfinite(d)) {
+            // new BigDecimal(NaN/Infinity) 抛出NumberFormatException，scale同样抛出
+            return d;
+        }
+        return new BigDecimal(d).setScale(n, RoundingMode.HALF_UP).doubleValue();
+    }
+
+    private static void check(double[] values, int n) {
+        double[] dst = new double[values.length];
+        PrimitiveValueUtil.scale(values, dst, n);
+        for (int i = 0; i < values.length; i++) {
+            double e = expected(values[i], n);
+            String msg = values[i] + " n=" + n;
+            assertEquals(Double.doubleToLongBits(e), Double.doubleToLongBits(PrimitiveValueUtil.scale(values[i], n)), msg);
+            assertEquals(Double.doubleToLongBits(e), Double.doubleToLongBits(dst[i]), "array " + msg);
+        }
+    }
+
+    @Test
+    void scaleHalfwayAndEdgeCases() {
+        double[] values = {0.0, -0.0, 0.5, -0.5, 1.5, 2.5, 0.125, -0.125, 2.675, -2.675, 1.005, -1.005, 1.115, 0.045,
+                0.285, 1.0049999999999999, 123456.785, -9.995, 0.000_000_5, 4.35, 1e-300, -1e-300, Double.MIN_VALUE,
+                0x1p52, 0x1p52 + 1, 9007199254740993.0, 1e15 + 0.5, 1e17, -1e17, 1e300, Double.MAX_VALUE, -Double.MAX_VALUE};
+        for (int n = 0; n <= MAX_N; n++) {
+            check(values, n);
+        }
+    }
+
+    @Test
+    void scaleRandomValues() {
+        Random random = new Random(20240102L);
+        double[] values = new double[4000];
+        for (int n = 0; n <= MAX_N; n++) {
+            for (int i = 0; i < values.length; i++) {
+                switch (i % 4) {
+                    case 0:     // 金额类：几位小数后加一点误差
+                        values[i] = random.nextInt(100_000_000) / 1000.0 + (random.nextInt(3) - 1) * 1e-12;
+                        break;
+                    case 1:     // 正好在n位小数的中点附近
+                        values[i] = (random.nextInt(1_000_000) + 0.5) / NumberParser.POW10[n];
+                        break;
+                    case 2:     // 各种数量级
+                        values[i] = random.nextDouble() * Math.pow(10, random.nextInt(40) - 20);
+                        break;
+                    default:    // 任意bit，排除NaN/Infinity
+                        double d = Double.longBitsToDouble(random.nextLong());
+                        values[i] = Double.isFinite(d) ? d : 1.0;
+                }
+                if (random.nextBoolean()) values[i] = -values[i];
+            }
+            check(values, n);
+        }
+    }
+
+    @Test
+    void scaleOutOfTableRange() {
+        double[] values = {1234.5678, -0.125, 2.675, 1e20};
+        for (int n : new int[]{-3, -1, 23, 30}) {
+            check(values, n);
+        }
+    }
+
+    @Test
+    void scaleNonFinite() {
+        for (double d : new double[]{Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY}) {
+            for (int n = 0; n <= MAX_N; n++) {
+                int scale = n;
+                assertThrows(NumberFormatException.class,
+                        () -> PrimitiveValueUtil.scale(d, scale), d + " n=" + n);
+                assertThrows(NumberFormatException.class,
+                        () -> PrimitiveValueUtil.scale(new double[]{d}, new double[1], scale), d + " n=" + n);
+            }
+        }
+    }
+}
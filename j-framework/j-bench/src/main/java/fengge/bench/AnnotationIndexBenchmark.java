@@ -0,0 +1,131 @@
+package fengge.bench;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import fengge.utils.ClassUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 启动时查找注解：反射(getDeclaredFieldsWithAnnotation/getDeclaredMethodsWithAnnotation) vs 编译期索引(getIndexed*)
+ * 模拟启动：每次调用前用新的ClassLoader加载fengge.bench下的全部类(含jmh生成的类，约330个，只加载不初始化)，
+ * 类的反射数据、ClassUtil的缓存和索引都是冷的；加载类的时间不计入，索引的读取计入
+ * 每个类查询带@JsonProperty的属性和带@JsonIgnore的方法
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10, batchSize = 1)
+@Measurement(iterations = 20, batchSize = 1)
+@Fork(1)
+public class AnnotationIndexBenchmark {
+    private static final String PACKAGE = "fengge.bench.";
+
+    URL location;
+    List<String> classNames;
+    List<Class<?>> classes;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, URISyntaxException {
+        location = AnnotationIndexBenchmark.class.getProtectionDomain().getCodeSource().getLocation();
+        classNames = listClasses(Paths.get(location.toURI()));
+    }
+
+    @Setup(Level.Invocation)
+    public void loadClasses() throws ClassNotFoundException {
+        ClassLoader loader = new ChildFirstLoader(new URL[]{location}, AnnotationIndexBenchmark.class.getClassLoader());
+        classes = new ArrayList<>(classNames.size());
+        for (String name : classNames) {
+            classes.add(Class.forName(name, false, loader));
+        }
+    }
+
+    @Benchmark
+    public int reflection() {
+        int n = 0;
+        for (Class<?> c : classes) {
+            n += ClassUtil.getDeclaredFieldsWithAnnotation(c, JsonProperty.class).size();
+            n += ClassUtil.getDeclaredMethodsWithAnnotation(c, JsonIgnore.class, false).size();
+        }
+        return n;
+    }
+
+    @Benchmark
+    public int index() {
+        int n = 0;
+        for (Class<?> c : classes) {
+            n += ClassUtil.getIndexedFieldsWithAnnotation(c, JsonProperty.class).size();
+            n += ClassUtil.getIndexedMethodsWithAnnotation(c, JsonIgnore.class).size();
+        }
+        return n;
+    }
+
+    // benchmarks.jar 或 IDE中的classes目录
+    private static List<String> listClasses(Path path) throws IOException {
+        List<String> ret = new ArrayList<>();
+        if (Files.isDirectory(path)) {
+            try (Stream<Path> files = Files.walk(path)) {
+                for (Path p : files.collect(Collectors.toList())) {
+                    addClass(ret, path.relativize(p).toString().replace('\\', '/'));
+                }
+            }
+        } else {
+            try (JarFile jar = new JarFile(path.toFile())) {
+                for (Enumeration<JarEntry> e = jar.entries(); e.hasMoreElements(); ) {
+                    addClass(ret, e.nextElement().getName());
+                }
+            }
+        }
+        return ret;
+    }
+
+    private static void addClass(List<String> ret, String entry) {
+        if (entry.endsWith(".class")) {
+            String name = entry.substring(0, entry.length() - ".class".length()).replace('/', '.');
+            if (name.startsWith(PACKAGE)) {
+                ret.add(name);
+            }
+        }
+    }
+
+    // fengge.bench下的类由自己加载(每次都是新的类)，其它类交给父ClassLoader
+    static final class ChildFirstLoader extends URLClassLoader {
+        ChildFirstLoader(URL[] urls, ClassLoader parent) {
+            super(urls, parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!name.startsWith(PACKAGE)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> c = findLoadedClass(name);
+                if (null == c) {
+                    c = findClass(name);
+                }
+                if (resolve) {
+                    resolveClass(c);
+                }
+                return c;
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package fengge.bench;
+
+import fengge.bench.model.Order;
+import fengge.bench.model.OrderDto;
+import fengge.utils.BeanCopier;
+import fengge.utils.JacksonUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 对象复制：JacksonUtil.convert(经过TokenBuffer序列化再反序列化) vs BeanCopier(编译后的复制计划)
+ * toDto：Order -> OrderDto，11个属性，含Long -> long、Integer -> int、int -> long
+ * fromMap：Map -> Order，值为Jackson转换出的Map(数字为Integer/Long/Double，fee为Double需要转换为BigDecimal)；
+ * Map中去掉了泛型属性items、tags(BeanCopier跳过，Jackson会转换)，两边设置的属性相同
+ * Map中同时有order_no和orderNo，两种方式都能设置orderNo
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BeanCopierBenchmark {
+    Order order;
+    Map<String, Object> map;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        order = Payloads.order(3);
+        map = JacksonUtil.toMap(order);
+        map.put("orderNo", order.getOrderNo());
+        map.remove("items");
+        map.remove("tags");
+    }
+
+    @Benchmark
+    public OrderDto toDtoJackson() {
+        return JacksonUtil.convert(order, OrderDto.class);
+    }
+
+    @Benchmark
+    public OrderDto toDtoCopier() {
+        return BeanCopier.copy(order, OrderDto.class);
+    }
+
+    @Benchmark
+    public Order fromMapJackson() {
+        return JacksonUtil.convert(map, Order.class);
+    }
+
+    @Benchmark
+    public Order fromMapCopier() {
+        return BeanCopier.fromMap(map, Order.class);
+    }
+}
@@ -0,0 +1,32 @@
+package fengge.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 性能测试入口 - 参数与 org.openjdk.jmh.Main 一致，默认附带gc profiler（等同 -prof gc）
+ * 同时输出吞吐量和分配率(gc.alloc.rate.norm)，作为后续性能改动的对比基线
+ * eg:
+ * java -jar j-bench/target/benchmarks.jar DatetimeUtilBenchmark -rf json -rff datetime.json
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions cmd = new CommandLineOptions(args);
+        if (cmd.shouldHelp() || cmd.shouldList() || cmd.shouldListWithParams()
+                || cmd.shouldListProfilers() || cmd.shouldListResultFormats()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+        Options opt = new OptionsBuilder()
+                .parent(cmd)
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(opt).run();
+    }
+}
@@ -0,0 +1,75 @@
+package fengge.bench;
+
+import fengge.utils.BusinessCalendar;
+import fengge.utils.DateNumCodec;
+import fengge.utils.DatetimeUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 工作日计算：BusinessCalendar vs 逐天 DatetimeUtil.addDays + isWeekend
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BusinessCalendarBenchmark {
+    // 2000~2030，每年10个节假日
+    BusinessCalendar calendar;
+    int[] days;
+    int index;
+
+    @Setup
+    public void setup() {
+        int[] holidays = new int[31 * 10];
+        for (int y = 0; y < 31; y++) {
+            for (int k = 0; k < 10; k++) {
+                holidays[y * 10 + k] = (2000 + y) * 10000 + (1 + k) * 100 + 10 + k;
+            }
+        }
+        calendar = BusinessCalendar.of(20000101, 20301231, holidays, null);
+        days = Payloads.tradeDays(1024);
+    }
+
+    private int nextDay() {
+        return days[index++ & 1023];
+    }
+
+    @Benchmark
+    public boolean isBusinessDay() {
+        return calendar.isBusinessDay(nextDay());
+    }
+
+    @Benchmark
+    public boolean isWeekendDate() {
+        return DatetimeUtil.isWeekend(new Date(DateNumCodec.toTimestamp(nextDay(), null)));
+    }
+
+    @Benchmark
+    public int addBusinessDays() {
+        return calendar.addBusinessDays(nextDay(), 20);
+    }
+
+    // 原来的写法：逐天偏移并跳过周末(不含节假日)
+    @Benchmark
+    public Date addBusinessDaysLoop() {
+        Date d = new Date(DateNumCodec.toTimestamp(nextDay(), null));
+        for (int n = 0; n < 20; ) {
+            d = DatetimeUtil.addDays(d, 1);
+            if (!DatetimeUtil.isWeekend(d)) n++;
+        }
+        return d;
+    }
+
+    @Benchmark
+    public int businessDaysBetween() {
+        int from = nextDay();
+        return calendar.businessDaysBetween(from, from + 10000);
+    }
+}
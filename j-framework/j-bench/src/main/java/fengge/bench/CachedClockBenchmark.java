@@ -0,0 +1,54 @@
+package fengge.bench;
+
+import fengge.utils.DatetimeUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DatetimeUtil.now* ：CachedClock vs 每次取系统时间再格式化
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class CachedClockBenchmark {
+    final TimeZone zone = TimeZone.getTimeZone("Asia/Shanghai");
+
+    @Param({"false", "true"})
+    boolean cached;
+
+    @Setup
+    public void setup() {
+        if (cached) {
+            DatetimeUtil.enableCachedClock(1);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        DatetimeUtil.disableCachedClock();
+    }
+
+    @Benchmark
+    public Date now() {
+        return DatetimeUtil.now();
+    }
+
+    @Benchmark
+    public String nowStr() {
+        return DatetimeUtil.nowStr(zone);
+    }
+
+    @Benchmark
+    public String now8s() {
+        return DatetimeUtil.now8s(zone);
+    }
+}
@@ -0,0 +1,81 @@
+package fengge.bench;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import fengge.bench.model.Order;
+import fengge.utils.ClassUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ClassUtil 反射方法的基线
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClassUtilBenchmark {
+    Order order;
+    Field amountField;
+
+    @Setup
+    public void setup() throws Exception {
+        order = Payloads.order(3);
+        amountField = Order.class.getDeclaredField("amount");
+    }
+
+    @Benchmark
+    public List<Field> getDeclaredFields() {
+        return ClassUtil.getDeclaredFields(Order.class);
+    }
+
+    @Benchmark
+    public List<Field> getDeclaredFieldsWithAnnotation() {
+        return ClassUtil.getDeclaredFieldsWithAnnotation(Order.class, JsonProperty.class);
+    }
+
+    @Benchmark
+    public List<Method> getDeclaredMethodsWithAnnotation() {
+        return ClassUtil.getDeclaredMethodsWithAnnotation(Order.class, JsonIgnore.class, true);
+    }
+
+    // 在本类找到
+    @Benchmark
+    public Method getDeclaredMethodHit() {
+        return ClassUtil.getDeclaredMethod(Order.class, "getAmount");
+    }
+
+    // 在父类找到
+    @Benchmark
+    public Method getDeclaredMethodSuper() {
+        return ClassUtil.getDeclaredMethod(Order.class, "getCreator");
+    }
+
+    @Benchmark
+    public Object getFieldValue() {
+        return ClassUtil.getFieldValue(order, amountField);
+    }
+
+    @Benchmark
+    public boolean silencedInjectionByName() {
+        return ClassUtil.silencedInjection(order, "creator", "bench");
+    }
+
+    @Benchmark
+    public boolean silencedInjectionByField() {
+        return ClassUtil.silencedInjection(order, amountField, 12.5);
+    }
+
+    @Benchmark
+    public boolean silencedSetter() {
+        return ClassUtil.silencedSetter(order, "status", "PAID");
+    }
+}
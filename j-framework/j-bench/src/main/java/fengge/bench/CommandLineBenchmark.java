@@ -0,0 +1,50 @@
+package fengge.bench;
+
+import fengge.tools.CommandLine;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CommandLine 解析的基线
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommandLineBenchmark {
+    final String pipeline = "grep -rn -F 'Corba' main.log |grep \"ObjName==M|N\"|awk '{print $8}'|sort|uniq -c";
+    final String args = "-rn -F \"Corba\" --color never main.log main.log.1";
+    final String[] mainArgs = {"--dir=/Users/max", "--project=customer", "-env=prod", "start"};
+    CommandLine parsed;
+
+    @Setup
+    public void setup() {
+        parsed = CommandLine.parse(pipeline).get(0);
+    }
+
+    @Benchmark
+    public List<CommandLine> parsePipeline() {
+        return CommandLine.parse(pipeline);
+    }
+
+    @Benchmark
+    public CommandLine parseArgsString() {
+        return CommandLine.parseArgs(args);
+    }
+
+    @Benchmark
+    public CommandLine parseMainArgs() {
+        return CommandLine.parseArgs(mainArgs);
+    }
+
+    @Benchmark
+    public String toCommandString() {
+        return parsed.toString();
+    }
+}
@@ -0,0 +1,109 @@
+package fengge.bench;
+
+import fengge.utils.DateColumns;
+import fengge.utils.DatetimeUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 整列日期转换：DateColumns vs 逐个调用DatetimeUtil
+ * 100M需要较大的堆，已在fork参数中设置-Xmx4g
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class DateColumnsBenchmark {
+    static final TimeZone zone = TimeZone.getTimeZone("Asia/Shanghai");
+
+    @State(Scope.Benchmark)
+    public static class Timestamps {
+        @Param({"1000", "1000000", "100000000"})
+        int size;
+
+        long[] timestamps;
+        int[] days;
+
+        @Setup
+        public void setup() {
+            timestamps = Payloads.timestamps(size);
+            days = new int[size];
+        }
+    }
+
+    @Benchmark
+    public int[] toNum8(Timestamps t) {
+        return DateColumns.toNum8(t.timestamps, zone, t.days);
+    }
+
+    @Benchmark
+    public int[] toNum8Loop(Timestamps t) {
+        int[] ret = t.days;
+        for (int i = 0; i < t.size; i++) {
+            ret[i] = DatetimeUtil.toNum8(new Date(t.timestamps[i]), zone);
+        }
+        return ret;
+    }
+
+    @Benchmark
+    public int[] toNum8Stream(Timestamps t) {
+        return DateColumns.toNum8(Arrays.stream(t.timestamps).parallel(), zone).toArray();
+    }
+
+    /**
+     * String列占用内存大，只测到1M
+     */
+    @State(Scope.Benchmark)
+    public static class Strings {
+        @Param({"1000", "1000000"})
+        int size;
+
+        int[] days;
+        String[] dayStrings;
+        String[] out;
+        long[] timestamps;
+
+        @Setup
+        public void setup() {
+            days = Payloads.tradeDays(size);
+            dayStrings = DateColumns.toDayStr10(days, null);
+            out = new String[size];
+            timestamps = new long[size];
+        }
+    }
+
+    @Benchmark
+    public String[] toDayStr10(Strings s) {
+        return DateColumns.toDayStr10(s.days, s.out);
+    }
+
+    @Benchmark
+    public String[] toDayStr10Loop(Strings s) {
+        String[] ret = s.out;
+        for (int i = 0; i < s.size; i++) {
+            ret[i] = DatetimeUtil.dayStr8To10(s.days[i]);
+        }
+        return ret;
+    }
+
+    @Benchmark
+    public long[] toTimestamps(Strings s) {
+        return DateColumns.toTimestamps(s.dayStrings, zone, s.timestamps);
+    }
+
+    @Benchmark
+    public long[] toTimestampsLoop(Strings s) {
+        long[] ret = s.timestamps;
+        for (int i = 0; i < s.size; i++) {
+            ret[i] = DatetimeUtil.parseDate(s.dayStrings[i], zone).getTime();
+        }
+        return ret;
+    }
+}
@@ -0,0 +1,76 @@
+package fengge.bench;
+
+import fengge.utils.DatetimeUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DatetimeUtil 格式化/解析：缓存的DateTimeFormatter vs 每次new SimpleDateFormat(原实现)
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DatetimeFormatBenchmark {
+    final TimeZone zone = TimeZone.getTimeZone("Asia/Shanghai");
+    final Date date = new Date(1704161106000L);     // 2024-01-02 10:05:06 +08:00
+    final String day10 = "2024-01-02";
+    final String day19 = "2024-01-02 10:05:06";
+
+    @Benchmark
+    public String format() {
+        return DatetimeUtil.format(date, DatetimeUtil.yyyy_MM_dd_HH_mm_ss, zone);
+    }
+
+    @Benchmark
+    public String formatLegacy() {
+        SimpleDateFormat df = new SimpleDateFormat(DatetimeUtil.yyyy_MM_dd_HH_mm_ss);
+        df.setTimeZone(zone);
+        return df.format(date);
+    }
+
+    @Benchmark
+    public Date parseDate() {
+        return DatetimeUtil.parseDate(day19, zone);
+    }
+
+    @Benchmark
+    public Date parseDateLegacy() throws ParseException {
+        SimpleDateFormat df = new SimpleDateFormat(DatetimeUtil.yyyy_MM_dd_HH_mm_ss);
+        df.setTimeZone(zone);
+        return df.parse(day19);
+    }
+
+    @Benchmark
+    public Date formatString() {
+        return DatetimeUtil.format(day10, zone);
+    }
+
+    @Benchmark
+    public Date formatStringLegacy() throws ParseException {
+        SimpleDateFormat df = new SimpleDateFormat(DatetimeUtil.yyyy_MM_dd);
+        df.setTimeZone(zone);
+        return df.parse(day10);
+    }
+
+    @Benchmark
+    public int toNum8() {
+        return DatetimeUtil.toNum8(date, zone);
+    }
+
+    @Benchmark
+    public int toNum8Legacy() {
+        SimpleDateFormat df = new SimpleDateFormat(DatetimeUtil.yyyyMMdd);
+        df.setTimeZone(zone);
+        return Integer.parseInt(df.format(date));
+    }
+}
@@ -0,0 +1,130 @@
+package fengge.bench;
+
+import fengge.utils.DatetimeUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DatetimeUtil 常用方法的基线
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DatetimeUtilBenchmark {
+    final TimeZone zone = TimeZone.getTimeZone("Asia/Shanghai");
+    final Date date = new Date(1704161106000L);     // 2024-01-02 10:05:06 +08:00
+    final LocalDateTime dateTime = LocalDateTime.of(2024, 1, 2, 10, 5, 6);
+    final String day8 = "20240102";
+    final String day10 = "2024-01-02";
+    final String day19 = "2024-01-02 10:05:06";
+    final String day17 = "2024-01-02 100506";
+
+    @Benchmark
+    public Date parseDate8() {
+        return DatetimeUtil.parseDate(day8, zone);
+    }
+
+    @Benchmark
+    public Date parseDate10() {
+        return DatetimeUtil.parseDate(day10, zone);
+    }
+
+    @Benchmark
+    public Date parseDate17() {
+        return DatetimeUtil.parseDate(day17, zone);
+    }
+
+    @Benchmark
+    public Date parseDate19() {
+        return DatetimeUtil.parseDate(day19, zone);
+    }
+
+    @Benchmark
+    public String formatDate() {
+        return DatetimeUtil.format(date, zone);
+    }
+
+    @Benchmark
+    public String formatPattern() {
+        return DatetimeUtil.format(date, DatetimeUtil.yyyy_MM_dd_HH_mm_ss, zone);
+    }
+
+    @Benchmark
+    public Date formatString() {
+        return DatetimeUtil.format(day10, zone);
+    }
+
+    @Benchmark
+    public String formatLocalDateTime() {
+        return DatetimeUtil.format(dateTime);
+    }
+
+    @Benchmark
+    public int toNum8Date() {
+        return DatetimeUtil.toNum8(date, zone);
+    }
+
+    @Benchmark
+    public int toNum8LocalDateTime() {
+        return DatetimeUtil.toNum8(dateTime);
+    }
+
+    @Benchmark
+    public int toNumberTime() {
+        return DatetimeUtil.toNumber(date, "HHmmss", zone);
+    }
+
+    @Benchmark
+    public String dayStr8To10() {
+        return DatetimeUtil.dayStr8To10(20240102);
+    }
+
+    @Benchmark
+    public String[] toDayAndTime() {
+        return DatetimeUtil.toDayAndTime(date, zone);
+    }
+
+    @Benchmark
+    public long time2timestamp() {
+        return DatetimeUtil.time2timestamp(93005, day10, zone);
+    }
+
+    @Benchmark
+    public Date now() {
+        return DatetimeUtil.now();
+    }
+
+    @Benchmark
+    public String nowStr() {
+        return DatetimeUtil.nowStr(zone);
+    }
+
+    @Benchmark
+    public String now8s() {
+        return DatetimeUtil.now8s(zone);
+    }
+
+    @Benchmark
+    public boolean isWeekend() {
+        return DatetimeUtil.isWeekend(date);
+    }
+
+    @Benchmark
+    public Date addDays() {
+        return DatetimeUtil.addDays(date, 7);
+    }
+
+    @Benchmark
+    public int rangeDays() {
+        return DatetimeUtil.rangeDays("2024-01-02", "2024-03-15");
+    }
+}
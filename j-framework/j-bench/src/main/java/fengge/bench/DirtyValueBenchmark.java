@@ -0,0 +1,82 @@
+package fengge.bench;
+
+import fengge.utils.PrimitiveValueUtil;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 含脏数据的单元格转int/double：原实现(异常 + 逐个log.warn) vs 不抛异常 + 汇总统计
+ * j-bench没有日志实现(slf4j NOP)，原实现的耗时只包含异常本身，实际打印堆栈还要更慢
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DirtyValueBenchmark {
+    static final int SIZE = 1024;
+    static final String[] DIRTY = {"", "N/A", "-", "null", "12abc", "１２ "};
+
+    // 脏数据占比(%)
+    @Param({"1", "10", "50"})
+    int dirtyPercent;
+
+    String[] values;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(Payloads.SEED);
+        String[] numbers = Payloads.numericStrings(SIZE);
+        values = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = random.nextInt(100) < dirtyPercent ? DIRTY[random.nextInt(DIRTY.length)] : numbers[i];
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void toIntLegacy(Blackhole bh) {
+        for (String s : values) bh.consume(legacyToInt(s));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void toInt(Blackhole bh) {
+        for (String s : values) bh.consume(PrimitiveValueUtil.toInt(s));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void toDoubleLegacy(Blackhole bh) {
+        for (String s : values) bh.consume(legacyToDouble(s));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void toDouble(Blackhole bh) {
+        for (String s : values) bh.consume(PrimitiveValueUtil.toDouble(s));
+    }
+
+    // 原来的实现
+    static int legacyToInt(Object value) {
+        try {
+            return PrimitiveValueUtil.intValue(value);
+        } catch (Exception e) {
+            return 0;
+        }
+    }
+
+    static double legacyToDouble(Object value) {
+        try {
+            return PrimitiveValueUtil.doubleValue(value);
+        } catch (Exception e) {
+            return 0.0;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package fengge.bench;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import fengge.base.Pagination;
+import fengge.base.Response;
+import fengge.bench.model.Order;
+import fengge.utils.JacksonUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response<Pagination<Order>> 序列化：反射 vs Blackbird
+ * 每组参数单独fork，blackbird=true 时在第一次使用JacksonUtil之前开启
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonBlackbirdBenchmark {
+    private static final Type PAGE_TYPE = new TypeReference<Response<Pagination<Order>>>() {
+    }.getType();
+
+    @Param({"false", "true"})
+    boolean blackbird;
+
+    // 每页的订单数
+    @Param({"20"})
+    int pageSize;
+
+    Response<Pagination<Order>> page;
+    byte[] pageBytes;
+
+    @Setup
+    public void setup() {
+        if (blackbird && !JacksonUtil.enableBlackbird()) {
+            throw new IllegalStateException("blackbird is not available");
+        }
+        Pagination<Order> data = Pagination.of(1000, 1, pageSize, Payloads.orders(pageSize, 5));
+        page = Response.success(data);
+        pageBytes = JacksonUtil.toBytes(page);
+    }
+
+    @Benchmark
+    public String toJson() {
+        return JacksonUtil.toJson(page);
+    }
+
+    @Benchmark
+    public byte[] toBytes() {
+        return JacksonUtil.toBytes(page);
+    }
+
+    @Benchmark
+    public Object toObject() {
+        return JacksonUtil.toObject(pageBytes, PAGE_TYPE);
+    }
+
+    @Benchmark
+    public String toNonDefaultJson() {
+        return JacksonUtil.toNonDefaultJson(page);
+    }
+}
@@ -0,0 +1,68 @@
+package fengge.bench;
+
+import fengge.bench.model.Order;
+import fengge.utils.JacksonUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 消息收发：String再转UTF-8 vs 直接读写字节
+ * 主要看 gc.alloc.rate.norm(每条消息分配的字节数)
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonBytesBenchmark {
+    private static final OutputStream NULL_OUT = OutputStream.nullOutputStream();
+
+    @Param({"1", "10", "100"})
+    int items;
+
+    Order order;
+    byte[] orderBytes;
+
+    @Setup
+    public void setup() {
+        order = Payloads.order(items);
+        orderBytes = JacksonUtil.toBytes(order);
+    }
+
+    @Benchmark
+    public byte[] encodeViaString() {
+        return JacksonUtil.toJson(order).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] encodeBytes() {
+        return JacksonUtil.toBytes(order);
+    }
+
+    @Benchmark
+    public ByteBuffer encodeByteBuffer() {
+        return JacksonUtil.toByteBuffer(order);
+    }
+
+    @Benchmark
+    public void encodeStream() {
+        JacksonUtil.toJson(order, NULL_OUT);
+    }
+
+    @Benchmark
+    public Order decodeViaString() {
+        return JacksonUtil.toObject(new String(orderBytes, StandardCharsets.UTF_8), Order.class);
+    }
+
+    @Benchmark
+    public Order decodeBytes() {
+        return JacksonUtil.toObject(orderBytes, Order.class);
+    }
+}
@@ -0,0 +1,95 @@
+package fengge.bench;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import fengge.bench.model.Order;
+import fengge.bench.model.OrderItem;
+import fengge.utils.JacksonUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 小对象上每次调用的固定开销：缓存的ObjectReader/ObjectWriter vs 原来每次constructType + mapper.readValue
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonCodecBenchmark {
+    private static final Type ITEM_LIST_TYPE = new TypeReference<List<OrderItem>>() {
+    }.getType();
+    private static final ObjectMapper mapper = JacksonUtil.mapper;
+
+    OrderItem item;
+    String itemJson;
+    String itemsJson;
+    JsonNode itemNode;
+
+    @Setup
+    public void setup() {
+        Order order = Payloads.order(3);
+        item = order.getItems().get(0);
+        itemJson = JacksonUtil.toJson(item);
+        itemsJson = JacksonUtil.toJson(order.getItems());
+        itemNode = JacksonUtil.getJsonNode(itemJson);
+    }
+
+    @Benchmark
+    public Object toObjectClassLegacy() throws Exception {
+        return mapper.readValue(itemJson, OrderItem.class);
+    }
+
+    @Benchmark
+    public Object toObjectClass() {
+        return JacksonUtil.toObject(itemJson, OrderItem.class);
+    }
+
+    @Benchmark
+    public Object toObjectTypeLegacy() throws Exception {
+        return mapper.readValue(itemsJson, mapper.constructType(ITEM_LIST_TYPE));
+    }
+
+    @Benchmark
+    public Object toObjectType() {
+        return JacksonUtil.toObject(itemsJson, ITEM_LIST_TYPE);
+    }
+
+    @Benchmark
+    public String toJsonLegacy() throws Exception {
+        return mapper.writeValueAsString(item);
+    }
+
+    @Benchmark
+    public String toJson() {
+        return JacksonUtil.toJson(item);
+    }
+
+    @Benchmark
+    public Object convertLegacy() {
+        return mapper.convertValue(item, mapper.constructType(Map.class));
+    }
+
+    @Benchmark
+    public Object convert() {
+        return JacksonUtil.convert(item, Map.class);
+    }
+
+    @Benchmark
+    public Object parseLegacy() throws Exception {
+        return mapper.readValue(itemNode.traverse(), mapper.constructType(OrderItem.class));
+    }
+
+    @Benchmark
+    public Object parse() {
+        return JacksonUtil.parse(itemNode, OrderItem.class);
+    }
+}
@@ -0,0 +1,55 @@
+package fengge.bench;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import fengge.bench.model.Order;
+import fengge.utils.JacksonFormat;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * json vs Smile vs CBOR：编码/解码吞吐，编码后的大小在setup中输出
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonFormatBenchmark {
+    private static final Type ORDER_LIST_TYPE = new TypeReference<List<Order>>() {
+    }.getType();
+
+    @Param({"JSON", "SMILE", "CBOR"})
+    JacksonFormat format;
+
+    // 列表中的订单数量
+    @Param({"1", "100"})
+    int orders;
+
+    List<Order> data;
+    byte[] encoded;
+
+    @Setup
+    public void setup() {
+        data = Payloads.orders(orders, 5);
+        encoded = format.toBytes(data);
+        System.out.println();
+        System.out.println(format + " orders=" + orders + " encoded size: " + encoded.length
+                + " bytes, NON_DEFAULT: " + format.toNonDefaultBytes(data).length + " bytes");
+    }
+
+    @Benchmark
+    public byte[] encode() {
+        return format.toBytes(data);
+    }
+
+    @Benchmark
+    public List<Order> decode() {
+        return format.toObject(encoded, ORDER_LIST_TYPE);
+    }
+}
@@ -0,0 +1,81 @@
+package fengge.bench;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import fengge.bench.model.Order;
+import fengge.bench.model.OrderItem;
+import fengge.utils.JacksonUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JacksonUtil 常用方法的基线
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JacksonUtilBenchmark {
+    private static final Type ORDER_LIST_TYPE = new TypeReference<List<Order>>() {
+    }.getType();
+
+    // 订单明细数量：小消息/普通消息/大消息
+    @Param({"1", "10", "100"})
+    int items;
+
+    Order order;
+    String orderJson;
+    String ordersJson;
+    JsonNode orderNode;
+
+    @Setup
+    public void setup() {
+        order = Payloads.order(items);
+        orderJson = JacksonUtil.toJson(order);
+        ordersJson = Payloads.ordersJson(20, items);
+        orderNode = JacksonUtil.getJsonNode(orderJson);
+    }
+
+    @Benchmark
+    public String toJson() {
+        return JacksonUtil.toJson(order);
+    }
+
+    @Benchmark
+    public Order toObjectClass() {
+        return JacksonUtil.toObject(orderJson, Order.class);
+    }
+
+    @Benchmark
+    public List<Order> toObjectType() {
+        return JacksonUtil.toObject(ordersJson, ORDER_LIST_TYPE);
+    }
+
+    @Benchmark
+    public Map convertToMap() {
+        return JacksonUtil.toMap(order);
+    }
+
+    @Benchmark
+    public JsonNode getJsonNode() {
+        return JacksonUtil.getJsonNode(orderJson);
+    }
+
+    @Benchmark
+    public JsonNode getJsonNodePath() {
+        return JacksonUtil.getJsonNode(orderNode, "items[0].sku");
+    }
+
+    @Benchmark
+    public Object parseArrayPath() {
+        return JacksonUtil.parse(orderNode, "items", OrderItem.class);
+    }
+}
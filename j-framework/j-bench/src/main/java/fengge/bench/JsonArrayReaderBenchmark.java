@@ -0,0 +1,62 @@
+package fengge.bench;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import fengge.bench.model.Order;
+import fengge.utils.JacksonUtil;
+import fengge.utils.JsonArrayReader;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 大数组：JacksonUtil.readArray流式读取 vs toObject整体读取
+ * 两者的总分配量接近，区别在于流式读取的对象可以马上回收，峰值内存与数组大小无关
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonArrayReaderBenchmark {
+    private static final Type ORDER_LIST_TYPE = new TypeReference<List<Order>>() {
+    }.getType();
+
+    @Param({"1000", "10000"})
+    int size;
+
+    String json;
+    byte[] bytes;
+
+    @Setup
+    public void setup() {
+        json = Payloads.ordersJson(size, 5);
+        bytes = json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public long readArray(Blackhole bh) {
+        try (JsonArrayReader<Order> reader = JacksonUtil.readArray(new ByteArrayInputStream(bytes), Order.class)) {
+            return reader.forEach(bh::consume);
+        }
+    }
+
+    @Benchmark
+    public long readArrayBatch(Blackhole bh) {
+        try (JsonArrayReader<Order> reader = JacksonUtil.readArray(new ByteArrayInputStream(bytes), Order.class)) {
+            return reader.forEachBatch(500, bh::consume);
+        }
+    }
+
+    @Benchmark
+    public List<Order> toObject() {
+        return JacksonUtil.toObject(json, ORDER_LIST_TYPE);
+    }
+}
@@ -0,0 +1,71 @@
+package fengge.bench;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import fengge.utils.JacksonUtil;
+import fengge.utils.JsonPath;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 子节点查找：预编译JsonPath vs 原来每次split的实现
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonPathBenchmark {
+    @Param({"status", "tags.region", "items[3].sku"})
+    String path;
+
+    JsonNode root;
+    JsonPath compiled;
+
+    @Setup
+    public void setup() {
+        root = JacksonUtil.getJsonNode(Payloads.orderJson(10));
+        compiled = JsonPath.compile(path);
+    }
+
+    @Benchmark
+    public JsonNode compiled() {
+        return compiled.eval(root);
+    }
+
+    // 经过路径缓存
+    @Benchmark
+    public JsonNode getJsonNode() {
+        return JacksonUtil.getJsonNode(root, path);
+    }
+
+    @Benchmark
+    public JsonNode getJsonNodeLegacy() {
+        return legacy(root, path);
+    }
+
+    // 原 JacksonUtil.getJsonNode(JsonNode, String) 的实现
+    static JsonNode legacy(final JsonNode root, String node) {
+        try {
+            JsonNode current = root;
+            String[] trees = node.split("\\.");
+            for (String t : trees) {
+                if (t.contains("[") && t.contains("]")) {
+                    int st = t.indexOf("[");
+                    int end = t.indexOf("]", st);
+                    String name = t.substring(0, st);
+                    int index = Integer.parseInt(t.substring(st + 1, end));
+                    current = current.get(name).get(index);
+                } else {
+                    current = current.get(t);
+                }
+            }
+            return current;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package fengge.bench;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import fengge.utils.JacksonUtil;
+import fengge.utils.JsonPathExtractor;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 大消息中取几个字段：JsonPathExtractor流式扫描 vs getJsonNode构建整棵树再parse
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonPathExtractorBenchmark {
+    static final String[] PATHS = {"order_no", "status", "items[3].sku"};
+    static final Type[] TYPES = {String.class, String.class, String.class};
+
+    @Param({"10", "100"})
+    int items;
+
+    String json;
+    byte[] bytes;
+    JsonPathExtractor extractor;
+
+    @Setup
+    public void setup() {
+        json = Payloads.orderJson(items);
+        bytes = json.getBytes(StandardCharsets.UTF_8);
+        extractor = JsonPathExtractor.of(PATHS, TYPES);
+    }
+
+    @Benchmark
+    public Object[] extractBytes() {
+        return extractor.extract(bytes);
+    }
+
+    @Benchmark
+    public Object[] extractString() {
+        return extractor.extract(json);
+    }
+
+    @Benchmark
+    public Object[] tree() {
+        JsonNode root = JacksonUtil.getJsonNode(json);
+        Object[] ret = new Object[PATHS.length];
+        for (int i = 0; i < PATHS.length; i++) {
+            ret[i] = JacksonUtil.parse(root, PATHS[i], TYPES[i]);
+        }
+        return ret;
+    }
+}
@@ -0,0 +1,112 @@
+package fengge.bench;
+
+import fengge.utils.LazilyParsedNumber;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * LazilyParsedNumber：原实现(每次new BigDecimal) vs 扫描解析 + 缓存
+ * first*：新对象第一次取值；repeat*：同一个对象重复取值(如PrimitiveValueUtil多次读取同一个字段)
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LazilyParsedNumberBenchmark {
+    // 整数、负数、小数、大整数 各1/4
+    String[] values;
+    LazilyParsedNumber[] numbers;
+    LegacyNumber[] legacy;
+
+    @Setup
+    public void setup() {
+        values = Payloads.numericStrings(1024);
+        numbers = new LazilyParsedNumber[values.length];
+        legacy = new LegacyNumber[values.length];
+        for (int i = 0; i < values.length; i++) {
+            numbers[i] = new LazilyParsedNumber(values[i]);
+            legacy[i] = new LegacyNumber(values[i]);
+        }
+    }
+
+    @Benchmark
+    public long firstLongLegacy() {
+        long sum = 0;
+        for (String v : values) {
+            sum += new LegacyNumber(v).longValue();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long firstLong() {
+        long sum = 0;
+        for (String v : values) {
+            sum += new LazilyParsedNumber(v).longValue();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long repeatIntLegacy() {
+        long sum = 0;
+        for (LegacyNumber n : legacy) {
+            sum += n.intValue();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long repeatInt() {
+        long sum = 0;
+        for (LazilyParsedNumber n : numbers) {
+            sum += n.intValue();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double repeatDoubleLegacy() {
+        double sum = 0;
+        for (LegacyNumber n : legacy) {
+            sum += n.doubleValue();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double repeatDouble() {
+        double sum = 0;
+        for (LazilyParsedNumber n : numbers) {
+            sum += n.doubleValue();
+        }
+        return sum;
+    }
+
+    // 原来的实现
+    static final class LegacyNumber {
+        private final String value;
+
+        LegacyNumber(String value) {
+            this.value = value;
+        }
+
+        int intValue() {
+            return new BigDecimal(value).intValue();
+        }
+
+        long longValue() {
+            return new BigDecimal(value).longValue();
+        }
+
+        double doubleValue() {
+            return Double.parseDouble(value);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package fengge.bench;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import fengge.utils.JacksonUtil;
+import fengge.utils.PrimitiveValueUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 行情数据反序列化为Map/JsonNode：默认(数字立即解析) vs 延迟解析数字
+ * *One：只读取每条的last；*All：读取每条的全部数字
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LazyNumberBenchmark {
+    // 快照条数
+    @Param({"100"})
+    int quotes;
+
+    String json;
+
+    @Setup
+    public void setup() {
+        json = Payloads.quotesJson(quotes);
+    }
+
+    @Benchmark
+    public double mapOne() {
+        return sumLast(JacksonUtil.toObject(json, List.class));
+    }
+
+    @Benchmark
+    public double lazyMapOne() {
+        return sumLast(JacksonUtil.toLazyObject(json, List.class));
+    }
+
+    @Benchmark
+    public double mapAll() {
+        return sumAll(JacksonUtil.toObject(json, List.class));
+    }
+
+    @Benchmark
+    public double lazyMapAll() {
+        return sumAll(JacksonUtil.toLazyObject(json, List.class));
+    }
+
+    @Benchmark
+    public double treeOne() {
+        return sumLastNode(JacksonUtil.getJsonNode(json));
+    }
+
+    @Benchmark
+    public double lazyTreeOne() {
+        return sumLastNode(JacksonUtil.getLazyJsonNode(json));
+    }
+
+    private static double sumLast(List<Map<String, Object>> list) {
+        double sum = 0;
+        for (Map<String, Object> q : list) {
+            sum += PrimitiveValueUtil.getAsDouble(q.get("last"));
+        }
+        return sum;
+    }
+
+    private static double sumAll(List<Map<String, Object>> list) {
+        double sum = 0;
+        for (Map<String, Object> q : list) {
+            for (Object v : q.values()) {
+                if (v instanceof Number) {
+                    sum += ((Number) v).doubleValue();
+                } else if (v instanceof List) {
+                    for (Object n : (List<?>) v) {
+                        sum += ((Number) n).doubleValue();
+                    }
+                }
+            }
+        }
+        return sum;
+    }
+
+    private static double sumLastNode(JsonNode root) {
+        double sum = 0;
+        for (JsonNode q : root) {
+            sum += q.get("last").doubleValue();
+        }
+        return sum;
+    }
+}
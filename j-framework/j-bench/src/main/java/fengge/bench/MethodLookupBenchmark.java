@@ -0,0 +1,116 @@
+package fengge.bench;
+
+import fengge.utils.ClassUtil;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ClassUtil.getDeclaredMethod：原实现(每级getDeclaredMethod，找不到时抛出异常并打印warn) vs 缓存的查找
+ * 8层继承，方法分别在本类、中间(第4层)、最顶层，以及都没有的情况
+ * 基准测试中slf4j没有绑定实现(NOP)，原实现的数字不含实际写日志的开销
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MethodLookupBenchmark {
+    private static final Logger log = LoggerFactory.getLogger(MethodLookupBenchmark.class);
+
+    public static class Level0 {
+        public void top(String s) {
+        }
+    }
+
+    public static class Level1 extends Level0 {
+    }
+
+    public static class Level2 extends Level1 {
+    }
+
+    public static class Level3 extends Level2 {
+    }
+
+    public static class Level4 extends Level3 {
+        public void middle(int i) {
+        }
+    }
+
+    public static class Level5 extends Level4 {
+    }
+
+    public static class Level6 extends Level5 {
+    }
+
+    public static class Level7 extends Level6 {
+    }
+
+    public static class Level8 extends Level7 {
+        public void own() {
+        }
+    }
+
+    @Benchmark
+    public Method ownLegacy() {
+        return legacy(Level8.class, "own");
+    }
+
+    @Benchmark
+    public Method own() {
+        return ClassUtil.getDeclaredMethod(Level8.class, "own");
+    }
+
+    @Benchmark
+    public Method middleLegacy() {
+        return legacy(Level8.class, "middle", int.class);
+    }
+
+    @Benchmark
+    public Method middle() {
+        return ClassUtil.getDeclaredMethod(Level8.class, "middle", int.class);
+    }
+
+    @Benchmark
+    public Method topLegacy() {
+        return legacy(Level8.class, "top", String.class);
+    }
+
+    @Benchmark
+    public Method top() {
+        return ClassUtil.getDeclaredMethod(Level8.class, "top", String.class);
+    }
+
+    // 一直找到Object也没有
+    @Benchmark
+    public Method missLegacy() {
+        return legacy(Level8.class, "absent");
+    }
+
+    @Benchmark
+    public Method miss() {
+        return ClassUtil.getDeclaredMethod(Level8.class, "absent");
+    }
+
+    // 原实现
+    static Method legacy(Class clazz, String name, Class<?>... parameterTypes) {
+        Method method = null;
+        try {
+            method = clazz.getDeclaredMethod(name, parameterTypes);
+            return method;
+        } catch (Exception e) {
+            log.warn("No Method: {}.{}", clazz.getName(), name);
+        }
+        Class sc = clazz.getSuperclass();
+        if (null != sc) {
+            method = legacy(sc, name, parameterTypes);
+        }
+        return method;
+    }
+}
@@ -0,0 +1,47 @@
+package fengge.bench;
+
+import fengge.utils.NameStringUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * NameStringUtil 命名转换的基线
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NameStringUtilBenchmark {
+    final String column = "order_item_trade_date";
+    final String property = "orderItemTradeDate";
+
+    @Benchmark
+    public String toCamelCase() {
+        return NameStringUtil.toCamelCase(column);
+    }
+
+    @Benchmark
+    public String toPropertyName() {
+        return NameStringUtil.toPropertyName(column);
+    }
+
+    @Benchmark
+    public String toClassName() {
+        return NameStringUtil.toClassName(column);
+    }
+
+    @Benchmark
+    public String toSnakeName() {
+        return NameStringUtil.toSnakeName(property);
+    }
+
+    @Benchmark
+    public String classNameToPropertyName() {
+        return NameStringUtil.classNameToPropertyName("OrderItem");
+    }
+}
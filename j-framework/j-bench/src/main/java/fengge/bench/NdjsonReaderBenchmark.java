@@ -0,0 +1,84 @@
+package fengge.bench;
+
+import fengge.bench.model.Order;
+import fengge.utils.JacksonUtil;
+import fengge.utils.NdjsonReader;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * NDJSON文件导入：逐行toObject vs NdjsonReader并行解析(按线程数)
+ * 在多核机器上运行才能看出扩展性
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NdjsonReaderBenchmark {
+    @Param({"100000"})
+    int lines;
+
+    @Param({"1", "2", "4", "8"})
+    int threads;
+
+    @Param({"true", "false"})
+    boolean ordered;
+
+    Path file;
+    ForkJoinPool pool;
+    NdjsonReader.Options options;
+
+    @Setup
+    public void setup() throws IOException {
+        file = Files.createTempFile("bench-", ".ndjson");
+        Random random = new Random(42);
+        try (BufferedWriter w = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < lines; i++) {
+                w.write(JacksonUtil.toJson(Payloads.order(random, 3)));
+                w.write('\n');
+            }
+        }
+        pool = new ForkJoinPool(threads);
+        options = NdjsonReader.Options.builder().executor(pool).ordered(ordered).build();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        pool.shutdown();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public long lineByLine(Blackhole bh) throws IOException {
+        long n = 0;
+        try (BufferedReader r = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while (null != (line = r.readLine())) {
+                bh.consume(JacksonUtil.toObject(line, Order.class));
+                n++;
+            }
+        }
+        return n;
+    }
+
+    @Benchmark
+    public long readNdjson(Blackhole bh) {
+        try (NdjsonReader<Order> reader = JacksonUtil.readNdjson(file, Order.class, options)) {
+            return reader.forEach(bh::consume);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package fengge.bench;
+
+import fengge.utils.NumberParser;
+import fengge.utils.PrimitiveValueUtil;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 字符串转数字：原实现(LazilyParsedNumber + BigDecimal、正则) vs NumberParser
+ * *Line：一行逗号分隔的数字，split后逐个解析 vs 直接按下标解析
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumberParserBenchmark {
+    static final int SIZE = 1024;
+    private static final Pattern LEGACY_PATTERN = Pattern.compile("-?\\d+(\\.\\d+)?");
+
+    // 整数、负数、小数、大整数 各1/4
+    String[] numbers;
+    String line;
+
+    @Setup
+    public void setup() {
+        numbers = Payloads.numericStrings(SIZE);
+        line = String.join(",", numbers);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void getAsIntLegacy(Blackhole bh) {
+        for (String s : numbers) bh.consume(new BigDecimal(s).intValue());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void getAsInt(Blackhole bh) {
+        for (String s : numbers) bh.consume(PrimitiveValueUtil.getAsInt(s));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void getAsDoubleLegacy(Blackhole bh) {
+        for (String s : numbers) bh.consume(Double.parseDouble(s));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void getAsDouble(Blackhole bh) {
+        for (String s : numbers) bh.consume(PrimitiveValueUtil.getAsDouble(s));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void isNumericLegacy(Blackhole bh) {
+        for (String s : numbers) bh.consume(LEGACY_PATTERN.matcher(s).matches());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void isNumeric(Blackhole bh) {
+        for (String s : numbers) bh.consume(PrimitiveValueUtil.isNumeric(s));
+    }
+
+    @Benchmark
+    public double sumLineLegacy() {
+        double sum = 0;
+        for (String s : line.split(",")) {
+            sum += Double.parseDouble(s);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double sumLine() {
+        double sum = 0;
+        int from = 0;
+        int length = line.length();
+        while (from <= length) {
+            int to = line.indexOf(',', from);
+            if (to < 0) to = length;
+            sum += NumberParser.parseDouble(line, from, to, 0);
+            from = to + 1;
+        }
+        return sum;
+    }
+}
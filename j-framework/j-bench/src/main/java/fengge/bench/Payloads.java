@@ -0,0 +1,156 @@
+package fengge.bench;
+
+import fengge.bench.model.Order;
+import fengge.bench.model.OrderItem;
+import fengge.utils.DatetimeUtil;
+import fengge.utils.JacksonUtil;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 测试数据 - 固定随机种子，保证每次测试的数据一致
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+public class Payloads {
+    public static final long SEED = 20221201L;
+    private static final String[] STATUS = {"CREATED", "PAID", "SHIPPED", "DONE", "CANCELED"};
+    private static final String[] CUSTOMER = {"上海某某贸易有限公司", "Acme Trading Ltd.", "北京某某科技", "Globex Corp"};
+
+    // 一个订单，itemCount个明细
+    public static Order order(Random random, int itemCount) {
+        Order o = new Order();
+        o.setId(100000L + random.nextInt(900000));
+        o.setCreator("user_" + random.nextInt(1000));
+        o.setCreateTime(1700000000000L + random.nextInt(Integer.MAX_VALUE));
+        o.setUpdateTime(o.getCreateTime() + random.nextInt(3600_000));
+        o.setOrderNo("SO" + (20240000000L + random.nextInt(10000000)));
+        o.setCustomer(CUSTOMER[random.nextInt(CUSTOMER.length)]);
+        o.setStatus(STATUS[random.nextInt(STATUS.length)]);
+        o.setTradeDate(20240101 + random.nextInt(28));
+        o.setTradeTime(o.getCreateTime());
+        o.setAmount(random.nextInt(10000000) / 100.0);
+        o.setFee(BigDecimal.valueOf(random.nextInt(100000), 2));
+        o.setQuantity(random.nextInt(1000));
+        List<OrderItem> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            OrderItem item = new OrderItem();
+            item.setSku("SKU-" + random.nextInt(100000));
+            item.setName("商品-" + i);
+            item.setCount(1 + random.nextInt(20));
+            item.setPrice(random.nextInt(100000) / 100.0);
+            item.setGift(random.nextInt(10) == 0);
+            items.add(item);
+        }
+        o.setItems(items);
+        Map<String, String> tags = new LinkedHashMap<>();
+        tags.put("channel", random.nextBoolean() ? "web" : "app");
+        tags.put("region", "cn-" + random.nextInt(30));
+        o.setTags(tags);
+        return o;
+    }
+
+    public static Order order(int itemCount) {
+        return order(new Random(SEED), itemCount);
+    }
+
+    public static List<Order> orders(int count, int itemCount) {
+        Random random = new Random(SEED);
+        List<Order> ret = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ret.add(order(random, itemCount));
+        }
+        return ret;
+    }
+
+    public static String orderJson(int itemCount) {
+        return JacksonUtil.toJson(order(itemCount));
+    }
+
+    public static String ordersJson(int count, int itemCount) {
+        return JacksonUtil.toJson(orders(count, itemCount));
+    }
+
+    // 常见的数字字符串：整数、负数、小数、大数
+    public static String[] numericStrings(int count) {
+        Random random = new Random(SEED);
+        String[] ret = new String[count];
+        for (int i = 0; i < count; i++) {
+            switch (i & 3) {
+                case 0:
+                    ret[i] = String.valueOf(random.nextInt(100000));
+                    break;
+                case 1:
+                    ret[i] = String.valueOf(-random.nextInt(100000));
+                    break;
+                case 2:
+                    ret[i] = String.valueOf(random.nextInt(10000000) / 100.0);
+                    break;
+                default:
+                    ret[i] = String.valueOf(1000000000L + random.nextInt(Integer.MAX_VALUE));
+            }
+        }
+        return ret;
+    }
+
+    /**
+     * 行情快照的json数组：每条有五档买卖盘，数字占绝大部分
+     * {"code":"600001.SH","ts":...,"last":12.34,...,"bid":[...],"bidVol":[...],"ask":[...],"askVol":[...]}
+     */
+    public static String quotesJson(int count) {
+        Random random = new Random(SEED);
+        List<Map<String, Object>> ret = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Map<String, Object> q = new LinkedHashMap<>();
+            double last = 5 + random.nextInt(10000) / 100.0;
+            q.put("code", String.format("%06d.SH", 600000 + random.nextInt(5000)));
+            q.put("ts", 1704067200000L + random.nextInt(Integer.MAX_VALUE));
+            q.put("last", last);
+            q.put("open", Math.round((last + random.nextGaussian()) * 100) / 100.0);
+            q.put("high", Math.round((last + 1 + random.nextDouble()) * 100) / 100.0);
+            q.put("low", Math.round((last - 1 - random.nextDouble()) * 100) / 100.0);
+            q.put("preClose", Math.round((last + random.nextGaussian()) * 100) / 100.0);
+            q.put("volume", (long) random.nextInt(Integer.MAX_VALUE) * 10);
+            q.put("amount", Math.round(last * random.nextInt(100000000)) / 100.0);
+            List<Double> bid = new ArrayList<>(), ask = new ArrayList<>();
+            List<Integer> bidVol = new ArrayList<>(), askVol = new ArrayList<>();
+            for (int k = 1; k <= 5; k++) {
+                bid.add(Math.round((last - k * 0.01) * 100) / 100.0);
+                ask.add(Math.round((last + k * 0.01) * 100) / 100.0);
+                bidVol.add(100 * random.nextInt(10000));
+                askVol.add(100 * random.nextInt(10000));
+            }
+            q.put("bid", bid);
+            q.put("bidVol", bidVol);
+            q.put("ask", ask);
+            q.put("askVol", askVol);
+            ret.add(q);
+        }
+        return JacksonUtil.toJson(ret);
+    }
+
+    // yyyyMMdd 交易日
+    public static int[] tradeDays(int count) {
+        Random random = new Random(SEED);
+        int[] ret = new int[count];
+        for (int i = 0; i < count; i++) {
+            ret[i] = (2000 + random.nextInt(30)) * 10000 + (1 + random.nextInt(12)) * 100 + 1 + random.nextInt(28);
+        }
+        return ret;
+    }
+
+    // 2000年以后的时间戳
+    public static long[] timestamps(int count) {
+        Random random = new Random(SEED);
+        long[] ret = new long[count];
+        for (int i = 0; i < count; i++) {
+            ret[i] = 946684800000L + (long) (random.nextDouble() * 30 * 365 * DatetimeUtil.A_DAY_MS);
+        }
+        return ret;
+    }
+}
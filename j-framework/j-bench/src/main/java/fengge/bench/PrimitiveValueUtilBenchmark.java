@@ -0,0 +1,102 @@
+package fengge.bench;
+
+import fengge.utils.PrimitiveValueUtil;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PrimitiveValueUtil 常用方法的基线 - 模拟导入时逐个单元格转换
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveValueUtilBenchmark {
+    static final int SIZE = 1024;
+
+    String[] numbers;
+    String[] integers;
+    Object[] boxed;
+    double[] prices;
+
+    @Setup
+    public void setup() {
+        numbers = Payloads.numericStrings(SIZE);
+        integers = new String[SIZE];
+        boxed = new Object[SIZE];
+        prices = new double[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            integers[i] = String.valueOf(i * 37 - 5000);
+            boxed[i] = (i & 1) == 0 ? (Object) i : (Object) (long) i;
+            prices[i] = i * 1.0051 + 0.125;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void getAsIntString(Blackhole bh) {
+        for (String s : integers) bh.consume(PrimitiveValueUtil.getAsInt(s));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void getAsLongString(Blackhole bh) {
+        for (String s : integers) bh.consume(PrimitiveValueUtil.getAsLong(s));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void getAsDoubleString(Blackhole bh) {
+        for (String s : numbers) bh.consume(PrimitiveValueUtil.getAsDouble(s));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void isNumeric(Blackhole bh) {
+        for (String s : numbers) bh.consume(PrimitiveValueUtil.isNumeric(s));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void warpValueLong(Blackhole bh) {
+        for (Object o : boxed) bh.consume(PrimitiveValueUtil.warpValue(o, long.class));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void warpValueString(Blackhole bh) {
+        for (Object o : boxed) bh.consume(PrimitiveValueUtil.warpValue(o, String.class));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void intValue(Blackhole bh) {
+        for (Object o : boxed) bh.consume(PrimitiveValueUtil.intValue(o));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void toIntDirty(Blackhole bh) {
+        for (int i = 0; i < SIZE; i++) {
+            bh.consume(PrimitiveValueUtil.toInt((i & 15) == 0 ? "N/A" : integers[i]));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void scale2(Blackhole bh) {
+        for (double d : prices) bh.consume(PrimitiveValueUtil.scale2(d));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void compare3(Blackhole bh) {
+        for (int i = 1; i < SIZE; i++) bh.consume(PrimitiveValueUtil.compare3(prices[i - 1], prices[i]));
+    }
+}
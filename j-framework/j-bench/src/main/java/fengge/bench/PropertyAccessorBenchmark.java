@@ -0,0 +1,113 @@
+package fengge.bench;
+
+import fengge.bench.model.Order;
+import fengge.utils.ClassUtil;
+import fengge.utils.PropertyAccessor;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 属性读写：原实现(每次切换setAccessible + Field.get/set、Method.invoke) vs ClassUtil vs 缓存的PropertyAccessor vs 直接调用
+ * 属性amount为double(MethodHandle)，setStatus为引用类型参数的setter(LambdaMetafactory)
+ * *ByName：按属性名注入/调用setter，ClassUtil按名称缓存了PropertyAccessor
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PropertyAccessorBenchmark {
+    Order order;
+    Field amountField;
+    Method statusSetter;
+    PropertyAccessor amount;
+    PropertyAccessor status;
+    Double value = 12.5;
+
+    @Setup
+    public void setup() throws Exception {
+        order = Payloads.order(3);
+        amountField = Order.class.getDeclaredField("amount");
+        statusSetter = Order.class.getMethod("setStatus", String.class);
+        amount = PropertyAccessor.of(amountField);
+        status = PropertyAccessor.of(statusSetter);
+    }
+
+    @Benchmark
+    public Object getFieldLegacy() throws Exception {
+        boolean flag = amountField.isAccessible();
+        amountField.setAccessible(true);
+        Object v = amountField.get(order);
+        amountField.setAccessible(flag);
+        return v;
+    }
+
+    @Benchmark
+    public Object getFieldValue() {
+        return ClassUtil.getFieldValue(order, amountField);
+    }
+
+    @Benchmark
+    public Object getFieldAccessor() {
+        return amount.get(order);
+    }
+
+    @Benchmark
+    public Object getFieldDirect() {
+        return order.getAmount();
+    }
+
+    @Benchmark
+    public Order setFieldLegacy() throws Exception {
+        boolean flag = amountField.isAccessible();
+        amountField.setAccessible(true);
+        amountField.set(order, value);
+        amountField.setAccessible(flag);
+        return order;
+    }
+
+    @Benchmark
+    public boolean silencedInjection() {
+        return ClassUtil.silencedInjection(order, amountField, value);
+    }
+
+    @Benchmark
+    public Order setFieldAccessor() {
+        amount.set(order, value);
+        return order;
+    }
+
+    @Benchmark
+    public boolean silencedInjectionByName() {
+        return ClassUtil.silencedInjection(order, "amount", value);
+    }
+
+    @Benchmark
+    public Order setterLegacy() throws Exception {
+        statusSetter.invoke(order, "PAID");
+        return order;
+    }
+
+    @Benchmark
+    public boolean silencedSetter() {
+        return ClassUtil.silencedSetter(order, "status", "PAID");
+    }
+
+    @Benchmark
+    public Order setterAccessor() {
+        status.set(order, "PAID");
+        return order;
+    }
+
+    @Benchmark
+    public Order setterDirect() {
+        order.setStatus("PAID");
+        return order;
+    }
+}
@@ -0,0 +1,103 @@
+package fengge.bench;
+
+import fengge.utils.PrimitiveValueUtil;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 保留小数：原实现(new BigDecimal(d).setScale) vs 10的幂查表；scale2Batch：double[]批量
+ * setup时先逐个与原实现比较，结果不一致直接失败
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScaleBenchmark {
+    static final int SIZE = 1024;
+
+    // 价格、数量乘积之类的计算结果
+    double[] values;
+    double[] out;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(Payloads.SEED);
+        values = new double[SIZE];
+        out = new double[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            values[i] = random.nextInt(1000000) / 100.0 * (random.nextInt(5000) / 1000.0);
+        }
+        verify(random);
+    }
+
+    // 与原实现对比：生成的价格、随机的double、x.xx5这类看起来是中点的值
+    private static void verify(Random random) {
+        for (int i = 0; i < 200000; i++) {
+            double d;
+            switch (i % 3) {
+                case 0:
+                    d = random.nextInt(10000000) / Math.pow(10, random.nextInt(8)) + 5 / Math.pow(10, random.nextInt(9) + 1);
+                    break;
+                case 1:
+                    d = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(20) - 4);
+                    break;
+                default:
+                    d = Double.longBitsToDouble(random.nextLong());
+                    if (!Double.isFinite(d)) continue;
+            }
+            for (int n = 0; n <= 10; n++) {
+                double expected = legacyScale(d, n);
+                double actual = PrimitiveValueUtil.scale(d, n);
+                if (Double.doubleToRawLongBits(expected) != Double.doubleToRawLongBits(actual)) {
+                    throw new IllegalStateException("scale(" + d + ", " + n + ") = " + actual + ", expected " + expected);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void scale2Legacy(Blackhole bh) {
+        for (double v : values) bh.consume(legacyScale(v, 2));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void scale2(Blackhole bh) {
+        for (double v : values) bh.consume(PrimitiveValueUtil.scale2(v));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void scale2Batch(Blackhole bh) {
+        PrimitiveValueUtil.scale(values, out, 2);
+        bh.consume(out);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void compare3Legacy(Blackhole bh) {
+        for (int i = 1; i < SIZE; i++) bh.consume(legacyScale(values[i], 3) - legacyScale(values[i - 1], 3));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public void compare3(Blackhole bh) {
+        for (int i = 1; i < SIZE; i++) bh.consume(PrimitiveValueUtil.compare3(values[i], values[i - 1]));
+    }
+
+    // 原来的实现
+    static double legacyScale(double d, int n) {
+        BigDecimal b = new BigDecimal(d);
+        return b.setScale(n, RoundingMode.HALF_UP).doubleValue();
+    }
+}
@@ -0,0 +1,158 @@
+package fengge.bench;
+
+import fengge.utils.PrimitiveValueUtil;
+import fengge.utils.ValueConverter;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+import static fengge.utils.PrimitiveValueUtil.*;
+
+/**
+ * 按列转换单元格：原warpValue(if链) vs 缓存的转换器；intValue：原实现(warpValue后拆箱) vs 直接返回int
+ * 列类型依次为 String、Integer、long、double、BigDecimal、boolean、Float、short，靠后的列if链更长
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValueConverterBenchmark {
+    static final int ROWS = 256;
+    static final Class<?>[] COLUMNS = {String.class, Integer.class, long.class, double.class,
+            BigDecimal.class, boolean.class, Float.class, short.class};
+
+    Object[][] rows;
+    Object[] ints;
+
+    @Setup
+    public void setup() {
+        rows = new Object[ROWS][];
+        ints = new Object[ROWS];
+        for (int i = 0; i < ROWS; i++) {
+            rows[i] = new Object[]{"name" + i, i, (long) i * 1000, i * 1.25, i * 0.5,
+                    (i & 1) == 0, (float) i, i & 0x7fff};
+            ints[i] = i;
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void rowsLegacy(Blackhole bh) {
+        for (Object[] row : rows) {
+            for (int c = 0; c < COLUMNS.length; c++) {
+                bh.consume(legacyWarpValue(row[c], COLUMNS[c]));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void rowsWarpValue(Blackhole bh) {
+        for (Object[] row : rows) {
+            for (int c = 0; c < COLUMNS.length; c++) {
+                bh.consume(PrimitiveValueUtil.warpValue(row[c], COLUMNS[c]));
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void rowsConverter(Blackhole bh) {
+        ValueConverter[] converters = new ValueConverter[COLUMNS.length];
+        for (int c = 0; c < COLUMNS.length; c++) {
+            converters[c] = PrimitiveValueUtil.converter(COLUMNS[c]);
+        }
+        for (Object[] row : rows) {
+            for (int c = 0; c < converters.length; c++) {
+                bh.consume(converters[c].convert(row[c]));
+            }
+        }
+    }
+
+    @Benchmark
+    public long intValueLegacy() {
+        long sum = 0;
+        for (Object o : ints) {
+            sum += (int) legacyWarpValue(o, int.class);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long intValue() {
+        long sum = 0;
+        for (Object o : ints) {
+            sum += PrimitiveValueUtil.intValue(o);
+        }
+        return sum;
+    }
+
+    // 原来的实现
+    static Object legacyWarpValue(Object value, Class type) {
+        if (null == type) {
+            return value;
+        }
+        if (type == String.class) {
+            return getAsString(value);
+        }
+        if (type == Integer.class || type == int.class) {
+            if (null == value) {
+                return type == int.class ? (Object) 0 : null;
+            }
+            return getAsInt(value);
+        }
+        if (type == Long.class || type == long.class) {
+            if (null == value) {
+                return type == long.class ? (Object) 0L : null;
+            }
+            return getAsLong(value);
+        }
+        if (type == Double.class || type == double.class) {
+            if (null == value) {
+                return type == double.class ? (Object) 0.0 : null;
+            }
+            return getAsDouble(value);
+        }
+        if (type == Boolean.class || type == boolean.class) {
+            if (null == value) {
+                return type == boolean.class ? (Object) false : null;
+            }
+            return getAsBool(value);
+        }
+        if (type == BigDecimal.class) {
+            return null == value ? null : getAsBigDecimal(value);
+        }
+        if (type == BigInteger.class) {
+            return null == value ? null : getAsBigInteger(value);
+        }
+        if (type == Character.class || type == char.class) {
+            return getAsCharacter(value);
+        }
+        if (type == Byte.class || type == byte.class) {
+            if (null == value) {
+                return type == byte.class ? (Object) (byte) 0 : null;
+            }
+            return getAsByte(value);
+        }
+        if (type == Short.class || type == short.class) {
+            if (null == value) {
+                return type == short.class ? (Object) (short) 0 : null;
+            }
+            return getAsShort(value);
+        }
+        if (type == Float.class || type == float.class) {
+            if (null == value) {
+                return type == float.class ? (Object) (float) 0 : null;
+            }
+            return getAsFloat(value);
+        }
+        return value;
+    }
+}
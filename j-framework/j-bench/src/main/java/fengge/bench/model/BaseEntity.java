@@ -0,0 +1,25 @@
+package fengge.bench.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+/**
+ * 测试用的实体基类 - 模拟业务实体的继承层次
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+@Data
+public class BaseEntity {
+    @JsonProperty("id")
+    private Long id;
+    private String creator;
+    private long createTime;
+    private long updateTime;
+    private boolean deleted;
+
+    @JsonIgnore
+    public boolean isNew() {
+        return null == id;
+    }
+}
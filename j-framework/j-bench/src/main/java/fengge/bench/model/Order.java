@@ -0,0 +1,38 @@
+package fengge.bench.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 测试用的订单 - 字段类型覆盖常见的业务DTO
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+@Data
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class Order extends BaseEntity {
+    @JsonProperty("order_no")
+    private String orderNo;
+    private String customer;
+    private String status;
+    private int tradeDate;      // yyyyMMdd
+    private long tradeTime;     // timestamp
+    private double amount;
+    private BigDecimal fee;
+    private Integer quantity;
+    private List<OrderItem> items;
+    private Map<String, String> tags;
+
+    @JsonIgnore
+    public int getItemCount() {
+        return null == items ? 0 : items.size();
+    }
+}
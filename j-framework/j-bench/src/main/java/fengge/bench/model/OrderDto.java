@@ -0,0 +1,27 @@
+package fengge.bench.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * 测试用的订单摘要 - Order的部分字段，部分类型不同(Long -> long、Integer -> int、int -> long)
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+@Data
+public class OrderDto {
+    private long id;
+    private String creator;
+    private long createTime;
+    @JsonProperty("order_no")
+    private String orderNo;
+    private String customer;
+    private String status;
+    private long tradeDate;
+    private long tradeTime;
+    private double amount;
+    private BigDecimal fee;
+    private int quantity;
+}
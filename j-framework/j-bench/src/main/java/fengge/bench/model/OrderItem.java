@@ -0,0 +1,17 @@
+package fengge.bench.model;
+
+import lombok.Data;
+
+/**
+ * 测试用的订单明细
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+@Data
+public class OrderItem {
+    private String sku;
+    private String name;
+    private int count;
+    private double price;
+    private boolean gift;
+}
@@ -0,0 +1,215 @@
+package fengge.index;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.*;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * 注解索引处理器 - 编译时记录每个类的属性、方法上的运行时注解，写入 META-INF/fengge/annotation.index
+ * 运行时 ClassUtil.getIndexedFieldsWithAnnotation / getIndexedMethodsWithAnnotation 读取索引，
+ * 只解析带注解的成员，不再遍历每个类的全部属性、方法和注解
+ * 索引格式(每行一条，tab分隔，类名为Class.getName的形式)：
+ * C  类名                                  - 参与编译的类，没有带注解的成员时也记录
+ * F  类名  属性名  注解1,注解2
+ * M  类名  方法名  参数类型1,参数类型2  注解1,注解2
+ * 在最后一轮才读取成员，此时lombok等处理器生成的成员也已加入；增量编译时保留未重新编译的类的索引
+ *
+ * @author max.hu  @date 2026/10/18
+ **/
+@SupportedAnnotationTypes("*")
+public class AnnotationIndexProcessor extends AbstractProcessor {
+    public static final String INDEX = "META-INF/fengge/annotation.index";
+
+    // 各轮参与编译的顶层类
+    private final Set<String> rootTypes = new LinkedHashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (!roundEnv.processingOver()) {
+            for (Element e : roundEnv.getRootElements()) {
+                if (e instanceof TypeElement) {
+                    rootTypes.add(((TypeElement) e).getQualifiedName().toString());
+                }
+            }
+            return false;
+        }
+        List<String> lines = new ArrayList<>();
+        Set<String> indexed = new HashSet<>();
+        for (String name : rootTypes) {
+            TypeElement type = processingEnv.getElementUtils().getTypeElement(name);
+            if (null != type) {
+                index(type, lines, indexed);
+            }
+        }
+        if (!lines.isEmpty()) {
+            write(lines, indexed);
+        }
+        // 不占用注解，其它处理器照常处理
+        return false;
+    }
+
+    private void index(TypeElement type, List<String> lines, Set<String> indexed) {
+        String className = binaryName(type);
+        indexed.add(className);
+        lines.add("C\t" + className);
+        for (Element e : type.getEnclosedElements()) {
+            ElementKind kind = e.getKind();
+            if (e instanceof TypeElement) {
+                index((TypeElement) e, lines, indexed);
+            } else if (kind == ElementKind.FIELD || kind == ElementKind.ENUM_CONSTANT) {
+                String anns = runtimeAnnotations(e);
+                if (!anns.isEmpty()) {
+                    lines.add("F\t" + className + "\t" + e.getSimpleName() + "\t" + anns);
+                }
+            } else if (kind == ElementKind.METHOD) {
+                String anns = runtimeAnnotations(e);
+                if (!anns.isEmpty()) {
+                    StringJoiner params = new StringJoiner(",");
+                    for (VariableElement p : ((ExecutableElement) e).getParameters()) {
+                        params.add(className(p.asType()));
+                    }
+                    lines.add("M\t" + className + "\t" + e.getSimpleName() + "\t" + params + "\t" + anns);
+                }
+            }
+        }
+    }
+
+    // 只记录RUNTIME的注解，其它的反射读不到
+    private String runtimeAnnotations(Element e) {
+        StringJoiner ret = new StringJoiner(",");
+        for (AnnotationMirror a : e.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) a.getAnnotationType().asElement();
+            Retention retention = annotationType.getAnnotation(Retention.class);
+            if (null != retention && retention.value() == RetentionPolicy.RUNTIME) {
+                ret.add(binaryName(annotationType));
+            }
+        }
+        return ret.toString();
+    }
+
+    // 擦除后的类型，与Class.getName一致：int、java.lang.String、a.B$C、[I、[Ljava.lang.String;
+    private String className(TypeMirror t) {
+        TypeMirror erased = processingEnv.getTypeUtils().erasure(t);
+        if (erased.getKind() == TypeKind.ARRAY) {
+            return descriptor(erased);
+        }
+        if (erased.getKind() == TypeKind.DECLARED) {
+            return binaryName((TypeElement) ((DeclaredType) erased).asElement());
+        }
+        return erased.toString();
+    }
+
+    private String descriptor(TypeMirror t) {
+        switch (t.getKind()) {
+            case ARRAY:
+                return "[" + descriptor(((ArrayType) t).getComponentType());
+            case BOOLEAN:
+                return "Z";
+            case BYTE:
+                return "B";
+            case CHAR:
+                return "C";
+            case SHORT:
+                return "S";
+            case INT:
+                return "I";
+            case LONG:
+                return "J";
+            case FLOAT:
+                return "F";
+            case DOUBLE:
+                return "D";
+            default:
+                return "L" + className(t) + ";";
+        }
+    }
+
+    private String binaryName(TypeElement type) {
+        return processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+
+    // 合并已有索引中本次没有编译、且仍然存在的类(增量编译)
+    private void write(List<String> lines, Set<String> indexed) {
+        List<String> all = new ArrayList<>();
+        for (String line : readExisting()) {
+            String[] cols = line.split("\t", -1);
+            if (cols.length >= 2 && !indexed.contains(cols[1]) && exists(cols[1])) {
+                all.add(line);
+            }
+        }
+        all.addAll(lines);
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX);
+            try (Writer w = new BufferedWriter(new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8))) {
+                for (String line : all) {
+                    w.write(line);
+                    w.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "failed to write " + INDEX + ": " + e);
+        }
+    }
+
+    private List<String> readExisting() {
+        List<String> ret = new ArrayList<>();
+        try {
+            FileObject file = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", INDEX);
+            try (BufferedReader r = new BufferedReader(new InputStreamReader(file.openInputStream(), StandardCharsets.UTF_8))) {
+                for (String line = r.readLine(); null != line; line = r.readLine()) {
+                    if (!line.isEmpty()) ret.add(line);
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // 第一次编译，没有索引
+        }
+        return ret;
+    }
+
+    // 类名为binary name，类名本身也可能含'$'，不能直接替换为'.'：
+    // 依次把每个'$'之前的部分当作外部类查找，再在其内部类中按binary name匹配
+    private boolean exists(String className) {
+        TypeElement type = processingEnv.getElementUtils().getTypeElement(className);
+        if (null != type && binaryName(type).equals(className)) {
+            return true;
+        }
+        for (int i = className.indexOf('$'); i > 0; i = className.indexOf('$', i + 1)) {
+            TypeElement outer = processingEnv.getElementUtils().getTypeElement(className.substring(0, i));
+            if (null != outer && hasNested(outer, className)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasNested(TypeElement outer, String className) {
+        for (Element e : outer.getEnclosedElements()) {
+            if (e instanceof TypeElement) {
+                String name = binaryName((TypeElement) e);
+                if (name.equals(className) || (className.startsWith(name + "$") && hasNested((TypeElement) e, className))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}